@@ -0,0 +1,31 @@
+plugins {
+    id("conventions.base")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(projects.cloudBrigadier)
+    /* The benchmarks run against the plain Brigadier dispatcher, no server required */
+    jmh(libs.brigadier)
+    /* Measures the retained size of built trees */
+    jmh(libs.jol)
+    /* Only the server independent reflection helpers are benchmarked, so Bukkit is not needed at runtime */
+    jmh(projects.cloudBukkit)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    benchmarkMode.addAll("thrpt")
+    timeUnit.set("ms")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    /* Run with -PjmhAllocation to record allocation rates through the GC profiler (-prof gc) */
+    if (providers.gradleProperty("jmhAllocation").isPresent) {
+        profilers.add("gc")
+        resultsFile.set(layout.buildDirectory.file("results/jmh/results-gc.json"))
+    }
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
@@ -0,0 +1,111 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+
+/**
+ * A command manager without a platform that holds the synthetic commands of the benchmarks.
+ *
+ * <p>The commands consist of a single root literal with {@code nodes / 3} sub-commands, each of which is made up of a
+ * literal, an integer argument and an optional greedy string, making for roughly {@code nodes} cloud nodes in total,
+ * and of a sub-command that only consists of the {@link #LITERAL} literal.
+ * The manager does not depend on Brigadier, so that benchmarks of the Brigadier independent classes can run without it.
+ * Senders that belong to a {@link BenchmarkPlayer} have the permissions of that player, every other sender has every
+ * permission.</p>
+ */
+final class BenchmarkCommandManager extends CommandManager<Object> {
+
+    static final String ROOT = "bench";
+    static final String LITERAL = "home";
+
+    private final int subCommands;
+
+    BenchmarkCommandManager(final int nodes) {
+        super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        this.subCommands = Math.max(1, nodes / 3);
+        // Every registration propagates the permissions through the whole tree, so registering 2000 commands one by one
+        // already takes seconds. The tree that two registrations leave behind after the other commands have been inserted
+        // is identical to the tree of registering every command, so only the last two commands are registered.
+        for (int i = 0; i < this.subCommands - 1; i++) {
+            this.insert(this.subCommandBuilder(i).build());
+        }
+        this.command(this.subCommandBuilder(this.subCommands - 1));
+        this.command(this.commandBuilder(ROOT).literal(LITERAL).handler(context -> {
+        }));
+    }
+
+    private Command.@NonNull Builder<Object> subCommandBuilder(final int index) {
+        return this.commandBuilder(ROOT)
+                .literal(subCommand(index))
+                .required("value", integerParser(0, 100))
+                .optional("text", greedyStringParser())
+                .permission("bench.sub." + (index % 16))
+                .handler(context -> {
+                });
+    }
+
+    /**
+     * Inserts the given {@code command} into the command tree without verifying it or propagating the permissions.
+     *
+     * @param command the command
+     */
+    private void insert(final @NonNull Command<Object> command) {
+        CommandNode<Object> node = this.commandTree().rootNode();
+        for (final CommandComponent<Object> component : command.components()) {
+            CommandNode<Object> child = node.getChild(component);
+            if (child == null) {
+                child = node.addChild(component);
+            }
+            child.parent(node);
+            node = child;
+        }
+        node.command(command);
+    }
+
+    static @NonNull String subCommand(final int index) {
+        return "sub" + index;
+    }
+
+    int subCommands() {
+        return this.subCommands;
+    }
+
+    @Override
+    public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+        if (sender instanceof BenchmarkPlayer.Sender) {
+            return ((BenchmarkPlayer.Sender) sender).player().hasPermission(permission);
+        }
+        return true;
+    }
+}
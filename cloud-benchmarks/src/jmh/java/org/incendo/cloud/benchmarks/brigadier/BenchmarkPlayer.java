@@ -0,0 +1,97 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A player whose permissions are resolved the way LuckPerms resolves them.
+ *
+ * <p>The permission data of the player is looked up by the query options of the player, which are the name of its
+ * world. Every check lower cases the permission and looks it up in the cache of that data. A permission that is not in
+ * the cache is resolved against the granted nodes, falling back to the wildcards of each of its parents, and is then
+ * cached.</p>
+ */
+final class BenchmarkPlayer {
+
+    private final Map<String, Boolean> nodes = new HashMap<>();
+    private final Map<String, Map<String, Boolean>> cachedData = new ConcurrentHashMap<>();
+    private final String world = "world";
+
+    /**
+     * Creates a player that has every even numbered permission of the synthetic commands and is denied one of the odd
+     * numbered ones.
+     */
+    BenchmarkPlayer() {
+        for (int i = 0; i < 16; i += 2) {
+            this.nodes.put("bench.sub." + i, true);
+        }
+        this.nodes.put("bench.sub.3", false);
+        this.nodes.put("bench.other.*", true);
+    }
+
+    boolean hasPermission(final @NonNull String permission) {
+        final Map<String, Boolean> permissionData = this.cachedData.computeIfAbsent(this.world, world -> new ConcurrentHashMap<>());
+        return permissionData.computeIfAbsent(permission.toLowerCase(Locale.ROOT), this::resolve);
+    }
+
+    private boolean resolve(final @NonNull String permission) {
+        final Boolean exact = this.nodes.get(permission);
+        if (exact != null) {
+            return exact;
+        }
+        String parent = permission;
+        int separator;
+        while ((separator = parent.lastIndexOf('.')) != -1) {
+            parent = parent.substring(0, separator);
+            final Boolean wildcard = this.nodes.get(parent + ".*");
+            if (wildcard != null) {
+                return wildcard;
+            }
+        }
+        return this.nodes.getOrDefault("*", false);
+    }
+
+
+    /**
+     * The cloud sender of a player. The sender mapper creates a new one for every mapping, like the mappers that wrap the
+     * platform sender do.
+     */
+    static final class Sender {
+
+        private final BenchmarkPlayer player;
+
+        Sender(final @NonNull BenchmarkPlayer player) {
+            this.player = player;
+        }
+
+        @NonNull BenchmarkPlayer player() {
+            return this.player;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link CloudBrigadierCommand#run(CommandContext)}, which hands commands that were dispatched
+ * by Brigadier over to cloud, and the executor of a command that only consists of literals, with and without
+ * {@link BrigadierSetting#DIRECT_LITERAL_EXECUTION}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommandExecutionBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int nodes;
+
+    /**
+     * Whether {@link BrigadierSetting#DIRECT_LITERAL_EXECUTION} is enabled.
+     */
+    @Param({"false", "true"})
+    public boolean directLiteralExecution;
+
+    private CloudBrigadierCommand<Object, Object> brigadierCommand;
+    private CommandContext<Object> context;
+    private CommandContext<Object> literalContext;
+
+    /**
+     * Builds the synthetic command tree and parses the command input.
+     */
+    @Setup
+    public void setup() {
+        final SyntheticCommandTree tree = this.directLiteralExecution
+                ? new SyntheticCommandTree(this.nodes, BrigadierSetting.DIRECT_LITERAL_EXECUTION)
+                : new SyntheticCommandTree(this.nodes);
+        this.brigadierCommand = tree.brigadierCommand();
+
+        final String input = SyntheticCommandTree.ROOT + " " + tree.middleSubCommand() + " 50 some text";
+        this.context = tree.dispatcher().parse(input, SyntheticCommandTree.SOURCE)
+                .getContext()
+                .build(input);
+        final String literalInput = SyntheticCommandTree.ROOT + " " + BenchmarkCommandManager.LITERAL;
+        this.literalContext = tree.dispatcher().parse(literalInput, SyntheticCommandTree.SOURCE)
+                .getContext()
+                .build(literalInput);
+    }
+
+    /**
+     * Runs the parsed command.
+     *
+     * @return the command result
+     */
+    @Benchmark
+    public int run() {
+        return this.brigadierCommand.run(this.context);
+    }
+
+    /**
+     * Runs the executor of the parsed literal command, which is the {@link CloudBrigadierCommand#literalCommand literal
+     * command} if {@link BrigadierSetting#DIRECT_LITERAL_EXECUTION} is enabled.
+     *
+     * @return the command result
+     * @throws CommandSyntaxException never
+     */
+    @Benchmark
+    public int runLiteral() throws CommandSyntaxException {
+        return this.literalContext.getCommand().run(this.literalContext);
+    }
+}
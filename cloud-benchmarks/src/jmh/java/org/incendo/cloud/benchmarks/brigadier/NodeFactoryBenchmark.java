@@ -0,0 +1,84 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory#createNode}, which is what
+ * platforms invoke when (re-)building the Brigadier tree for a root command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NodeFactoryBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int nodes;
+
+    /**
+     * Whether {@link BrigadierSetting#INCREMENTAL_TREE_BUILDS} is enabled, in which case rebuilding the unchanged tree
+     * reuses the nodes of the previous build.
+     */
+    @Param({"false", "true"})
+    public boolean incrementalBuilds;
+
+    /**
+     * Whether {@link BrigadierSetting#PARALLEL_TREE_BUILDS} is enabled.
+     */
+    @Param({"false", "true"})
+    public boolean parallelBuilds;
+
+    private SyntheticCommandTree tree;
+
+    /**
+     * Builds the synthetic command tree.
+     */
+    @Setup
+    public void setup() {
+        this.tree = new SyntheticCommandTree(this.nodes);
+        this.tree.brigadierManager().settings().set(BrigadierSetting.INCREMENTAL_TREE_BUILDS, this.incrementalBuilds);
+        this.tree.brigadierManager().settings().set(BrigadierSetting.PARALLEL_TREE_BUILDS, this.parallelBuilds);
+    }
+
+    /**
+     * Builds the Brigadier node for the synthetic root command.
+     *
+     * @return the built node
+     */
+    @Benchmark
+    public LiteralCommandNode<Object> createNode() {
+        return this.tree.buildNode();
+    }
+}
@@ -0,0 +1,118 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.brigadier.util.Integers;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures how {@link org.incendo.cloud.brigadier.suggestion.BrigadierSuggestionFactory} tells integer suggestions apart
+ * from string suggestions, comparing the former {@link NumberFormatException} based check to {@link Integers#parseInteger}.
+ *
+ * <p>Only the check is measured, not the Brigadier suggestions that the results are added to, so that this benchmark
+ * does not need Brigadier at runtime. Suggestions of the {@code IntegerTooltipSuggestion} type carry their value and are
+ * not checked at all.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NumericSuggestionBenchmark {
+
+    /**
+     * The number of suggestions that are checked.
+     */
+    @Param({"1000"})
+    public int size;
+
+    /**
+     * The kind of suggestions, either names (such as players or materials) or integers.
+     */
+    @Param({"names", "integers"})
+    public String kind;
+
+    private List<Suggestion> suggestions;
+
+    /**
+     * Creates the suggestions.
+     */
+    @Setup
+    public void setup() {
+        this.suggestions = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            if ("names".equals(this.kind)) {
+                this.suggestions.add(Suggestion.suggestion("player_" + i));
+            } else {
+                this.suggestions.add(Suggestion.suggestion(Integer.toString(i)));
+            }
+        }
+    }
+
+    /**
+     * Checks the suggestions by catching the exception thrown by {@link Integer#parseInt(String)}.
+     *
+     * @return the sum of the integers and the number of other suggestions
+     */
+    @Benchmark
+    public long exceptionBased() {
+        long result = 0;
+        for (final Suggestion suggestion : this.suggestions) {
+            try {
+                result += Integer.parseInt(suggestion.suggestion());
+            } catch (final NumberFormatException e) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks the suggestions using {@link Integers#parseInteger(String)}, which does not throw.
+     *
+     * @return the sum of the integers and the number of other suggestions
+     */
+    @Benchmark
+    public long nonThrowing() {
+        long result = 0;
+        for (final Suggestion suggestion : this.suggestions) {
+            final long value = Integers.parseInteger(suggestion.suggestion());
+            if (value != Integers.NOT_AN_INTEGER) {
+                result += value;
+            } else {
+                result++;
+            }
+        }
+        return result;
+    }
+}
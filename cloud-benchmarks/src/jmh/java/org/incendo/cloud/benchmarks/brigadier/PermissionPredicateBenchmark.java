@@ -0,0 +1,126 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionPredicate;
+import org.incendo.cloud.internal.CommandNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link BrigadierPermissionPredicate#test(Object)} for every node in the tree, which is what happens when the
+ * server builds the Commands packet for a player.
+ *
+ * <p>The requirements are created the way {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} creates
+ * them, one per cloud node. The Brigadier nodes themselves are not built, as the requirements do not depend on them, so
+ * this benchmark does not need Brigadier at runtime.</p>
+ *
+ * <p>The platform is modelled on Paper. The sender mapper unwraps the player of the source and wraps it in a new
+ * {@link BenchmarkPlayer.Sender}, and the permission checker goes through
+ * {@link org.incendo.cloud.CommandManager#testPermission(Object, org.incendo.cloud.permission.Permission)} to the
+ * {@link BenchmarkPlayer}, which resolves permissions like LuckPerms does.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PermissionPredicateBenchmark {
+
+    private static final BenchmarkPlayer PLAYER = new BenchmarkPlayer();
+    private static final Source SOURCE = new Source(PLAYER);
+
+    /**
+     * The approximate number of nodes in the tree.
+     */
+    @Param({"10", "1000", "50000"})
+    public int nodes;
+
+    private final List<Predicate<Source>> requirements = new ArrayList<>();
+
+    /**
+     * Registers the synthetic commands and creates the requirement of every node.
+     */
+    @Setup
+    public void setup() {
+        final BenchmarkCommandManager commandManager = new BenchmarkCommandManager(this.nodes);
+        final SenderMapper<Source, Object> senderMapper = SenderMapper.create(
+                source -> new BenchmarkPlayer.Sender(source.player),
+                sender -> new Source(((BenchmarkPlayer.Sender) sender).player())
+        );
+        final BrigadierPermissionChecker<Object> permissionChecker =
+                (sender, permission) -> commandManager.testPermission(sender, permission).allowed();
+
+        this.requirements.clear();
+        this.collect(commandManager.commandTree().getNamedNode(BenchmarkCommandManager.ROOT), senderMapper, permissionChecker);
+    }
+
+    private void collect(
+            final CommandNode<Object> node,
+            final SenderMapper<Source, Object> senderMapper,
+            final BrigadierPermissionChecker<Object> permissionChecker
+    ) {
+        this.requirements.add(new BrigadierPermissionPredicate<>(senderMapper, permissionChecker, node));
+        for (final CommandNode<Object> child : node.children()) {
+            this.collect(child, senderMapper, permissionChecker);
+        }
+    }
+
+    /**
+     * Tests the requirement of every node in the tree.
+     *
+     * @return the number of nodes that the source may use
+     */
+    @Benchmark
+    public int testTree() {
+        int allowed = 0;
+        for (final Predicate<Source> requirement : this.requirements) {
+            if (requirement.test(SOURCE)) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+
+    private static final class Source {
+
+        private final BenchmarkPlayer player;
+
+        private Source(final @NonNull BenchmarkPlayer player) {
+            this.player = player;
+        }
+    }
+}
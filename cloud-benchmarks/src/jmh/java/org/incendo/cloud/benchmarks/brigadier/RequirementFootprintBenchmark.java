@@ -0,0 +1,163 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionPredicate;
+import org.incendo.cloud.brigadier.permission.PermissionPredicateInterner;
+import org.incendo.cloud.internal.CommandNode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+/**
+ * Measures the heap that is retained by the requirements of a built tree, with and without
+ * {@link BrigadierSetting#INTERN_REQUIREMENTS}. The footprint is reported through the {@code bytes} and {@code objects}
+ * counters, and excludes the objects that are shared with the command manager. The footprint does not vary between
+ * invocations, and JMH sums event counters over the iterations, so it is only recorded once per fork, by the first
+ * measurement iteration.
+ *
+ * <p>The requirements are created the way {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} creates
+ * them, one per cloud node. Interning only changes which requirement each Brigadier node references, so the difference
+ * between the two settings is the difference in the footprint of the whole built tree, and this benchmark does not need
+ * Brigadier at runtime.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+/* JOL cannot read the field offsets of lambdas, which are hidden classes, through Unsafe */
+@Fork(value = 1, jvmArgsAppend = {"-Djdk.attach.allowAttachSelf", "-Djol.magicFieldOffset=true"})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequirementFootprintBenchmark {
+
+    /**
+     * The approximate number of nodes in the tree.
+     */
+    @Param({"10", "1000", "50000"})
+    public int nodes;
+
+    /**
+     * Whether {@link BrigadierSetting#INTERN_REQUIREMENTS} is enabled.
+     */
+    @Param({"false", "true"})
+    public boolean internRequirements;
+
+    private final SenderMapper<Object, Object> senderMapper = SenderMapper.identity();
+    private BenchmarkCommandManager commandManager;
+    private BrigadierPermissionChecker<Object> permissionChecker;
+    private boolean recorded;
+
+    /**
+     * Registers the synthetic commands.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.commandManager = new BenchmarkCommandManager(this.nodes);
+        this.permissionChecker = (sender, permission) -> this.commandManager.testPermission(sender, permission).allowed();
+    }
+
+    /**
+     * Creates the requirement of every node in the tree and records the size of the objects that they retain on their own.
+     *
+     * @param footprint the counters
+     * @param iteration the current iteration
+     * @return the requirements
+     */
+    @Benchmark
+    public Object footprint(final Footprint footprint, final IterationParams iteration) {
+        final PermissionPredicateInterner<Object, Object> interner = new PermissionPredicateInterner<>();
+        final List<Predicate<Object>> requirements = new ArrayList<>();
+        this.collect(this.commandManager.commandTree().getNamedNode(BenchmarkCommandManager.ROOT), interner, requirements);
+
+        final Object[] references = requirements.toArray();
+        if (this.recorded || iteration.getType() != IterationType.MEASUREMENT) {
+            return references;
+        }
+        this.recorded = true;
+        final GraphLayout layout = GraphLayout.parseInstance(references, interner)
+                .subtract(GraphLayout.parseInstance(this.commandManager, this.senderMapper, this.permissionChecker));
+        // The references stand in for the requirement fields of the Brigadier nodes, which exist with either setting
+        footprint.bytes = layout.totalSize() - VM.current().sizeOf(references);
+        footprint.objects = layout.totalCount() - 1;
+        return references;
+    }
+
+    private void collect(
+            final CommandNode<Object> node,
+            final PermissionPredicateInterner<Object, Object> interner,
+            final List<Predicate<Object>> requirements
+    ) {
+        requirements.add(this.internRequirements
+                ? interner.requirement(this.senderMapper, this.permissionChecker, node)
+                : new BrigadierPermissionPredicate<>(this.senderMapper, this.permissionChecker, node));
+        for (final CommandNode<Object> child : node.children()) {
+            this.collect(child, interner, requirements);
+        }
+    }
+
+
+    /**
+     * The footprint of the requirements that were created last.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * The retained size in bytes.
+         */
+        public long bytes;
+
+        /**
+         * The number of retained objects.
+         */
+        public long objects;
+
+        /**
+         * Clears the counters, which are otherwise reported again by every iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.bytes = 0;
+            this.objects = 0;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.brigadier.suggestion.BrigadierSuggestionFactory;
+import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
+import org.incendo.cloud.internal.CommandNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link BrigadierSuggestionFactory#buildSuggestions}, which is invoked for every keystroke on
+ * arguments that delegate their suggestions to cloud.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SuggestionBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    public int nodes;
+
+    private BrigadierSuggestionFactory<Object, Object> suggestionFactory;
+    private CommandNode<Object> rootNode;
+    private CommandNode<Object> subCommandNode;
+    private String rootInput;
+    private CommandContext<Object> rootContext;
+    private String argumentInput;
+    private CommandContext<Object> argumentContext;
+
+    /**
+     * Builds the synthetic command tree and parses the suggestion inputs.
+     */
+    @Setup
+    public void setup() {
+        final SyntheticCommandTree tree = new SyntheticCommandTree(this.nodes);
+        this.suggestionFactory = new BrigadierSuggestionFactory<>(
+                tree.brigadierManager(),
+                tree.commandManager(),
+                tree.commandManager().suggestionFactory().mapped(TooltipSuggestion::tooltipSuggestion)
+        );
+        this.rootNode = tree.rootNode();
+
+        this.rootInput = SyntheticCommandTree.ROOT + " ";
+        this.rootContext = tree.dispatcher().parse(this.rootInput, SyntheticCommandTree.SOURCE)
+                .getContext()
+                .build(this.rootInput);
+
+        final String subCommand = tree.middleSubCommand();
+        this.subCommandNode = this.rootNode.children().stream()
+                .filter(child -> child.component().name().equals(subCommand))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        this.argumentInput = SyntheticCommandTree.ROOT + " " + subCommand + " ";
+        this.argumentContext = tree.dispatcher().parse(this.argumentInput, SyntheticCommandTree.SOURCE)
+                .getContext()
+                .build(this.argumentInput);
+    }
+
+    /**
+     * Suggests the sub-commands of the root command, which scales with the size of the tree.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public Suggestions rootSuggestions() {
+        return this.suggestionFactory.buildSuggestions(
+                this.rootContext,
+                this.rootNode,
+                new SuggestionsBuilder(this.rootInput, this.rootInput.length())
+        ).join();
+    }
+
+    /**
+     * Suggests the values of the integer argument of a sub-command.
+     *
+     * @return the suggestions
+     */
+    @Benchmark
+    public Suggestions argumentSuggestions() {
+        return this.suggestionFactory.buildSuggestions(
+                this.argumentContext,
+                this.subCommandNode,
+                new SuggestionsBuilder(this.argumentInput, this.argumentInput.length())
+        ).join();
+    }
+}
@@ -0,0 +1,94 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.internal.CommandNode;
+
+/**
+ * The commands of a {@link BenchmarkCommandManager}, mapped onto a plain Brigadier {@link CommandDispatcher}.
+ */
+final class SyntheticCommandTree {
+
+    static final String ROOT = BenchmarkCommandManager.ROOT;
+    static final Object SOURCE = new Object();
+
+    private final BenchmarkCommandManager commandManager;
+    private final CloudBrigadierManager<Object, Object> brigadierManager;
+    private final CommandDispatcher<Object> dispatcher;
+    private final CloudBrigadierCommand<Object, Object> brigadierCommand;
+    private final BrigadierPermissionChecker<Object> permissionChecker;
+
+    SyntheticCommandTree(final int nodes, final @NonNull BrigadierSetting @NonNull... settings) {
+        this.commandManager = new BenchmarkCommandManager(nodes);
+        this.brigadierManager = new CloudBrigadierManager<>(this.commandManager, SenderMapper.identity());
+        for (final BrigadierSetting setting : settings) {
+            this.brigadierManager.settings().set(setting, true);
+        }
+        this.dispatcher = new CommandDispatcher<>();
+        this.brigadierCommand = new CloudBrigadierCommand<>(this.commandManager, this.brigadierManager);
+        this.permissionChecker = (sender, permission) -> this.commandManager.testPermission(sender, permission).allowed();
+        this.dispatcher.getRoot().addChild(this.buildNode());
+    }
+
+    @NonNull LiteralCommandNode<Object> buildNode() {
+        return this.brigadierManager.literalBrigadierNodeFactory().createNode(
+                ROOT,
+                this.rootNode(),
+                this.brigadierCommand,
+                this.permissionChecker
+        );
+    }
+
+    @NonNull CommandNode<Object> rootNode() {
+        return this.commandManager.commandTree().getNamedNode(ROOT);
+    }
+
+    @NonNull String middleSubCommand() {
+        return BenchmarkCommandManager.subCommand(this.commandManager.subCommands() / 2);
+    }
+
+    @NonNull BenchmarkCommandManager commandManager() {
+        return this.commandManager;
+    }
+
+    @NonNull CloudBrigadierManager<Object, Object> brigadierManager() {
+        return this.brigadierManager;
+    }
+
+    @NonNull CommandDispatcher<Object> dispatcher() {
+        return this.dispatcher;
+    }
+
+    @NonNull CloudBrigadierCommand<Object, Object> brigadierCommand() {
+        return this.brigadierCommand;
+    }
+}
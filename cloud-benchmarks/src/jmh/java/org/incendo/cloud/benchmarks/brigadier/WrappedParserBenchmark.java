@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.brigadier;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import java.util.concurrent.TimeUnit;
+import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link WrappedBrigadierParser#parse(CommandContext, CommandInput)}, which adapts native Brigadier
+ * argument types to cloud through {@code CloudStringReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WrappedParserBenchmark {
+
+    /**
+     * The length of the quoted string that is read, as native types such as item stacks can read
+     * arbitrarily long input.
+     */
+    @Param({"10", "1000", "50000"})
+    public int length;
+
+    private WrappedBrigadierParser<Object, String> quotedStringParser;
+    private WrappedBrigadierParser<Object, Integer> integerParser;
+    private CommandContext<Object> context;
+    private String quotedInput;
+
+    /**
+     * Creates the parsers and the input.
+     */
+    @Setup
+    public void setup() {
+        final SyntheticCommandTree tree = new SyntheticCommandTree(1);
+        this.quotedStringParser = new WrappedBrigadierParser<>(StringArgumentType.string());
+        this.integerParser = new WrappedBrigadierParser<>(IntegerArgumentType.integer());
+        this.context = new CommandContext<>(SyntheticCommandTree.SOURCE, tree.commandManager());
+
+        final StringBuilder builder = new StringBuilder(this.length + 2).append('"');
+        for (int i = 0; i < this.length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        this.quotedInput = builder.append('"').append(" trailing").toString();
+    }
+
+    /**
+     * Parses a quoted string, which is read character by character.
+     *
+     * @return the parse result
+     */
+    @Benchmark
+    public ArgumentParseResult<String> quotedString() {
+        return this.quotedStringParser.parse(this.context, CommandInput.of(this.quotedInput));
+    }
+
+    /**
+     * Parses an integer.
+     *
+     * @return the parse result
+     */
+    @Benchmark
+    public ArgumentParseResult<Integer> integer() {
+        return this.integerParser.parse(this.context, CommandInput.of("123456 trailing"));
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the cloud-brigadier hot paths.
+ */
+package org.incendo.cloud.benchmarks.brigadier;
@@ -0,0 +1,182 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.benchmarks.bukkit;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.incendo.cloud.bukkit.internal.ReflectionHandles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the reflective calls that the Bukkit parsers make on every parse before and after they were moved onto
+ * {@link ReflectionHandles}.
+ *
+ * <p>The server classes are not available to the benchmarks, so stand-ins with the same shape are used:
+ * {@link EntityArgument} has the CraftBukkit overload of {@code EntityArgument#parse} that the entity selector parsers
+ * call, and {@link DataComponentPatch} has the single boolean method that the item stack parser calls as
+ * {@code DataComponentPatch#isEmpty}. The former code looked these methods up and called them through
+ * {@link Method#invoke(Object, Object...)} on every parse. The current code caches a handle per class in a
+ * {@link ClassValue}, which is copied from the parsers as the parsers need a server to be loaded.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReflectionBenchmark {
+
+    private static final ClassValue<Optional<MethodHandle>> SPECIAL_PARSE = new ClassValue<Optional<MethodHandle>>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(final Class<?> type) {
+            try {
+                return Optional.of(ReflectionHandles.handle(type.getMethod("parse", StringBuilder.class, boolean.class)));
+            } catch (final NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }
+    };
+    private static final ClassValue<MethodHandle> IS_EMPTY_METHOD = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            return ReflectionHandles.handle(isEmptyMethod(type));
+        }
+    };
+
+    private final Object argumentType = new EntityArgument();
+    private final Object extraData = new DataComponentPatch();
+    private final StringBuilder reader = new StringBuilder("@e[type=minecraft:zombie]");
+
+    /**
+     * Calls the entity argument parse overload after looking it up, like the entity selector parsers used to.
+     *
+     * @return the result
+     * @throws ReflectiveOperationException if the invocation fails
+     */
+    @Benchmark
+    public Object selectorParseMethodInvoke() throws ReflectiveOperationException {
+        final Method specialParse = this.argumentType.getClass().getMethod("parse", StringBuilder.class, boolean.class);
+        try {
+            return specialParse.invoke(this.argumentType, this.reader, true);
+        } catch (final InvocationTargetException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Calls the entity argument parse overload through the handle that is cached for its class.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public Object selectorParseHandle() {
+        final MethodHandle specialParse = SPECIAL_PARSE.get(this.argumentType.getClass()).orElse(null);
+        try {
+            return (Object) specialParse.invokeExact(this.argumentType, (Object) this.reader, (Object) true);
+        } catch (final Throwable ex) {
+            throw ReflectionHandles.rethrow(ex);
+        }
+    }
+
+    /**
+     * Calls the {@code isEmpty} stand-in after searching the methods of its class, like the item stack parser used to.
+     *
+     * @return the result
+     * @throws ReflectiveOperationException if the invocation fails
+     */
+    @Benchmark
+    public boolean isEmptyMethodInvoke() throws ReflectiveOperationException {
+        return (boolean) isEmptyMethod(this.extraData.getClass()).invoke(this.extraData);
+    }
+
+    /**
+     * Calls the {@code isEmpty} stand-in through the handle that is cached for its class.
+     *
+     * @return the result
+     */
+    @Benchmark
+    public boolean isEmptyHandle() {
+        try {
+            return (boolean) (Object) IS_EMPTY_METHOD.get(this.extraData.getClass()).invokeExact(this.extraData);
+        } catch (final Throwable ex) {
+            throw ReflectionHandles.rethrow(ex);
+        }
+    }
+
+    private static Method isEmptyMethod(final Class<?> type) {
+        final List<Method> isEmptyMethod = Arrays.stream(type.getMethods())
+                .filter(it -> it.getParameterCount() == 0 && it.getReturnType().equals(boolean.class))
+                .collect(Collectors.toList());
+        if (isEmptyMethod.size() != 1) {
+            throw new IllegalStateException("Failed to locate DataComponentMap/Patch#isEmpty; size=" + isEmptyMethod.size());
+        }
+        return isEmptyMethod.get(0);
+    }
+
+
+    /**
+     * Stand-in for {@code EntityArgument}, with {@link StringBuilder} standing in for Brigadier's {@code StringReader}.
+     */
+    public static final class EntityArgument {
+
+        private int calls;
+
+        /**
+         * Stand-in for the CraftBukkit overload of the parse method.
+         *
+         * @param reader              the reader
+         * @param overridePermissions whether to skip the selector permission check
+         * @return the parsed value
+         */
+        public Object parse(final StringBuilder reader, final boolean overridePermissions) {
+            this.calls++;
+            return overridePermissions ? reader.length() + this.calls : this.calls;
+        }
+    }
+
+    /**
+     * Stand-in for {@code DataComponentPatch}.
+     */
+    public static final class DataComponentPatch {
+
+        private final Object[] entries = new Object[0];
+
+        /**
+         * Stand-in for the obfuscated {@code isEmpty} method.
+         *
+         * @return whether the patch is empty
+         */
+        public boolean isEmpty() {
+            return this.entries.length == 0;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks for the cloud-bukkit hot paths.
+ */
+package org.incendo.cloud.benchmarks.bukkit;
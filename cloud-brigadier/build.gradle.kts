@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     api(libs.cloud.core)
+    implementation(projects.cloudMinecraftCommon)
     /* Needs to be provided by the platform */
     compileOnly(libs.brigadier)
     testImplementation(libs.brigadier)
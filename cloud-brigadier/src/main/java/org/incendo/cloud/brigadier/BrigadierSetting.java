@@ -37,5 +37,101 @@ public enum BrigadierSetting implements Setting {
      * Makes each constructed {@link com.mojang.brigadier.tree.CommandNode} executable, which allows Cloud to
      * display errors for partially completed command input.
      */
-    FORCE_EXECUTABLE
+    FORCE_EXECUTABLE,
+    /**
+     * Makes {@link CloudBrigadierCommand} pass the argument values that Brigadier parsed while dispatching the command on to
+     * cloud, so that {@link org.incendo.cloud.brigadier.parser.WrappedBrigadierParser wrapped parsers} do not have to parse
+     * the same input a second time.
+     *
+     * <p>This should only be enabled if the native argument types do not depend on state that changes between the time the
+     * command is parsed by Brigadier and the time it is executed by cloud.</p>
+     */
+    REUSE_PARSED_ARGUMENTS,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.suggestion.CloudDelegatingSuggestionProvider} resolve cloud suggestions
+     * starting at the node that the suggestions are requested for, using the argument values that Brigadier has already
+     * parsed, instead of parsing the entire input from the root command on every request.
+     *
+     * <p>Suggestions fall back to parsing the entire input when a preceding argument was not parsed into the type that cloud
+     * expects, or when the node uses aggregate or flag parsers.</p>
+     */
+    ANCHORED_SUGGESTIONS,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.suggestion.BrigadierSuggestionFactory} cancel the suggestions that are in
+     * flight for a sender when a request for different input arrives from the same sender, as the client discards the
+     * responses to older requests.
+     *
+     * <p>Suggestion providers can check whether the request they are resolving suggestions for has been cancelled using
+     * {@link org.incendo.cloud.brigadier.suggestion.SuggestionRequest#cancelled(org.incendo.cloud.context.CommandContext)}.
+     * Senders are compared using {@link Object#equals(Object)}.</p>
+     */
+    CANCEL_SUPERSEDED_SUGGESTIONS,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} keep the Brigadier nodes that it has built
+     * for each cloud node, and reuse them when the root is built again, so that only the subtrees that have changed since
+     * the previous build are constructed again.
+     *
+     * <p>Nodes are only reused when they are built with the same executor and permission checker, so platforms should
+     * pass the same instances when building a root more than once.</p>
+     */
+    INCREMENTAL_TREE_BUILDS,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} build the subtrees of the children of a
+     * root command in parallel on the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, when the root
+     * has enough children for this to pay off. The children are added to the root in the same order as when built
+     * sequentially.
+     *
+     * <p>This should only be enabled if the registered mappings and argument type factories may be invoked from any thread.</p>
+     */
+    PARALLEL_TREE_BUILDS,
+    /**
+     * Makes platforms register the aliases of a root command as nodes that redirect to the node of the command, see
+     * {@link org.incendo.cloud.brigadier.util.BrigadierUtil#buildAliasRedirect}, rather than as copies of the whole tree of
+     * the command.
+     *
+     * <p>This reduces the size of the Commands packet and the number of requirements that are tested when it is sent, as
+     * the tree of the command is sent once rather than once per alias.</p>
+     */
+    REDIRECT_ALIASES,
+    /**
+     * Makes {@link CloudBrigadierManager#senderMapper()} remember the cloud sender that the last Brigadier source was
+     * mapped to on each thread, so that the requirements, the executor and the suggestion providers map a source once per
+     * dispatch or traversal of the command tree, see {@link org.incendo.cloud.brigadier.util.MemoizingSenderMapper}.
+     *
+     * <p>This should only be enabled if the sender that a source is mapped to does not change while the source is used.
+     * Only nodes that are constructed after the setting is enabled use the memoized mapping in their requirements.</p>
+     */
+    MEMOIZE_SENDER_MAPPING,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} map parsers that have no Brigadier mapping
+     * of their own, such as subclasses and anonymous subclasses of mapped parsers, using the mapping of their closest
+     * superclass, see {@link org.incendo.cloud.brigadier.argument.BrigadierMappings#mappingOrSuperclass(Class)}.
+     *
+     * <p>When disabled, such parsers are mapped using the {@link CloudBrigadierManager#registerDefaultArgumentTypeSupplier
+     * default argument type} of their value type.</p>
+     */
+    RESOLVE_SUPERCLASS_MAPPINGS,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} share the requirements of the nodes that it
+     * builds between nodes with equal permissions, see
+     * {@link org.incendo.cloud.brigadier.permission.PermissionPredicateInterner}, which reduces the memory that is retained
+     * by large trees where many nodes have the same permission.
+     *
+     * <p>Shared requirements evaluate the permissions that the nodes had when they were built, so trees must be rebuilt
+     * when commands are added or removed, which platforms do anyway to add the new nodes. Suggestion providers are not
+     * shared, as they resolve the suggestions relative to their node.</p>
+     */
+    INTERN_REQUIREMENTS,
+    /**
+     * Makes {@link org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory} give the nodes of commands that only consist
+     * of literals, such as {@code /spawn} or {@code /island home}, an executor that invokes the handler of the command
+     * directly, see {@link CloudBrigadierCommand#literalCommand(org.incendo.cloud.Command)}, instead of passing the input to
+     * cloud to be parsed again. Preprocessors, postprocessors and exception handlers are still invoked.
+     *
+     * <p>The handler is invoked on the thread that executes the Brigadier command, as the
+     * {@link org.incendo.cloud.execution.ExecutionCoordinator} is bypassed, so this should only be enabled if the coordinator
+     * executes commands on the calling thread, like {@link org.incendo.cloud.execution.ExecutionCoordinator#simpleCoordinator()}
+     * does.</p>
+     */
+    DIRECT_LITERAL_EXECUTION
 }
@@ -25,18 +25,30 @@ package org.incendo.cloud.brigadier;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.context.CommandContext;
-import com.mojang.brigadier.context.ParsedCommandNode;
 import com.mojang.brigadier.context.StringRange;
-import java.lang.reflect.Method;
+import com.mojang.brigadier.tree.RootCommandNode;
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.parser.BrigadierParsedArguments;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.util.ParsedNodes;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.exception.CommandExecutionException;
+import org.incendo.cloud.exception.handling.ExceptionController;
+import org.incendo.cloud.minecraft.util.SenderTypes;
+import org.incendo.cloud.services.State;
 import org.incendo.cloud.type.tuple.Pair;
+import org.incendo.cloud.util.CompletableFutures;
 
 /**
  * Brigadier {@link Command} implementation that delegates to cloud.
@@ -47,6 +59,9 @@ import org.incendo.cloud.type.tuple.Pair;
 @API(status = API.Status.INTERNAL)
 public final class CloudBrigadierCommand<C, S> implements Command<S> {
 
+    /* The key that CommandContext#rawInput() reads, which cloud stores before parsing the input */
+    private static final String RAW_INPUT = "__raw_input__";
+
     private final CommandManager<C> commandManager;
     private final CloudBrigadierManager<C, S> brigadierManager;
     private final Function<String, String> inputMapper;
@@ -83,63 +98,190 @@ public final class CloudBrigadierCommand<C, S> implements Command<S> {
         this.inputMapper = inputMapper;
     }
 
+    /**
+     * Returns the command that executes the given cloud {@code command} directly when the Brigadier node that it is set on
+     * is reached, without passing the input to cloud to be parsed again. The command must only consist of literals.
+     *
+     * <p>The input is not parsed by cloud, so the {@link org.incendo.cloud.execution.ExecutionCoordinator} is bypassed, but
+     * the preprocessors and postprocessors are still invoked and exceptions are still passed to the exception controller.
+     * If the sender is not allowed to execute the command, the input is passed to cloud, so that the sender is told why.</p>
+     *
+     * @param command the cloud command
+     * @return the literal command
+     * @since 2.0.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public @NonNull Command<S> literalCommand(final org.incendo.cloud.@NonNull Command<C> command) {
+        return ctx -> this.runLiteral(ctx, command);
+    }
+
     @Override
     public int run(final @NonNull CommandContext<S> ctx) {
+        final String input = this.inputMapper.apply(commandInput(ctx));
+        final @Nullable BrigadierParsedArguments parsedArguments;
+        if (this.brigadierManager.settings().get(BrigadierSetting.REUSE_PARSED_ARGUMENTS)
+            && sharesArguments(ctx.getLastChild(), input)) {
+            parsedArguments = BrigadierParsedArguments.of(ctx.getLastChild(), ctx.getInput().length() - input.length());
+        } else {
+            parsedArguments = null;
+        }
+        return this.execute(ctx.getSource(), input, parsedArguments);
+    }
+
+    private int runLiteral(final @NonNull CommandContext<S> ctx, final org.incendo.cloud.@NonNull Command<C> command) {
         final S source = ctx.getSource();
-        final String input = this.inputMapper.apply(
-            ctx.getInput().substring(parsedNodes(ctx.getLastChild()).get(0).second().getStart())
-        );
         final C sender = this.brigadierManager.senderMapper().map(source);
+        if (!this.canExecute(sender, command)) {
+            return this.run(ctx);
+        }
 
+        final org.incendo.cloud.context.CommandContext<C> cloudContext =
+            new org.incendo.cloud.context.CommandContext<>(sender, this.commandManager);
+        final CommandInput commandInput = CommandInput.of(this.inputMapper.apply(commandInput(ctx)));
+        cloudContext.store(RAW_INPUT, commandInput.copy());
+        NativeSenders.store(cloudContext, source);
+
+        CompletableFuture<Void> execution;
+        try {
+            execution = this.executeLiteral(cloudContext, commandInput, command);
+        } catch (final RuntimeException ex) {
+            execution = CompletableFutures.failedFuture(ex);
+        }
+        execution.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                return;
+            }
+            try {
+                this.commandManager.exceptionController().handleException(
+                    cloudContext,
+                    ExceptionController.unwrapCompletionException(throwable)
+                );
+            } catch (final RuntimeException ex) {
+                throw ex;
+            } catch (final Throwable unhandled) {
+                throw new CompletionException(unhandled);
+            }
+        });
+        return com.mojang.brigadier.Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Executes the given literal {@code command} the way cloud does once the input has been parsed.
+     *
+     * @param cloudContext the cloud context
+     * @param commandInput the command input
+     * @param command      the cloud command
+     * @return the future that completes when the command handler has completed
+     */
+    private @NonNull CompletableFuture<Void> executeLiteral(
+        final org.incendo.cloud.context.@NonNull CommandContext<C> cloudContext,
+        final @NonNull CommandInput commandInput,
+        final org.incendo.cloud.@NonNull Command<C> command
+    ) {
+        if (this.commandManager.preprocessContext(cloudContext, commandInput) != State.ACCEPTED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        cloudContext.command(command);
+        if (this.commandManager.postprocessContext(cloudContext, command) != State.ACCEPTED) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return command.commandExecutionHandler().executeFuture(cloudContext).handle((result, throwable) -> {
+            if (throwable == null) {
+                return null;
+            }
+            final Throwable cause = ExceptionController.unwrapCompletionException(throwable);
+            throw cause instanceof CommandExecutionException
+                ? (CommandExecutionException) cause
+                : new CommandExecutionException(cause, cloudContext);
+        });
+    }
+
+    /**
+     * Returns whether the given {@code sender} may execute the given {@code command}, as cloud checks once the input has been
+     * parsed.
+     *
+     * @param sender  the cloud sender
+     * @param command the cloud command
+     * @return whether the sender may execute the command
+     */
+    private boolean canExecute(final @NonNull C sender, final org.incendo.cloud.@NonNull Command<C> command) {
+        final Optional<TypeToken<? extends C>> senderType = command.senderType();
+        if (senderType.isPresent() && !SenderTypes.isSuperType(senderType.get().getType(), sender.getClass())) {
+            return false;
+        }
+        return this.commandManager.testPermission(sender, command.commandPermission()).allowed();
+    }
+
+    /**
+     * Returns the input that is passed to cloud for the given context, which starts at the label of the root command.
+     * Brigadier contexts are split at redirects, so the chain of child contexts is followed to the last child.
+     *
+     * <p>If the last child has been redirected to the node of a root command, such as by an
+     * {@link org.incendo.cloud.brigadier.util.BrigadierUtil#buildAliasRedirect alias redirect} or by a node of another
+     * plugin, the input that precedes the last child was parsed by nodes that cloud does not know. It is replaced by the
+     * label of the root command that the context was redirected to.</p>
+     *
+     * @param context the context, or any of its parents
+     * @return the command input
+     * @since 2.0.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public static @NonNull String commandInput(final @NonNull CommandContext<?> context) {
+        final CommandContext<?> lastChild = context.getLastChild();
+        final String input = lastChild.getInput().substring(lastChild.getRange().getStart());
+        if (lastChild.getRootNode() instanceof RootCommandNode) {
+            return input;
+        }
+        return lastChild.getRootNode().getName() + ' ' + input;
+    }
+
+    /**
+     * Returns whether the given cloud {@code input} ends with the arguments that were parsed by the given context, so that
+     * the positions of the arguments that Brigadier parsed can be translated. This is the case if the input mapper only
+     * removed a prefix, such as a namespace, and kept the rest.
+     *
+     * @param lastChild the last child context
+     * @param input     the cloud input
+     * @return whether the positions can be translated
+     */
+    private static boolean sharesArguments(final @NonNull CommandContext<?> lastChild, final @NonNull String input) {
+        final String fullInput = lastChild.getInput();
+        return fullInput.endsWith(input) || input.endsWith(fullInput.substring(lastChild.getRange().getStart()));
+    }
+
+    private int execute(
+        final @NonNull S source,
+        final @NonNull String input,
+        final @Nullable BrigadierParsedArguments parsedArguments
+    ) {
+        final C sender = this.brigadierManager.senderMapper().map(source);
         this.commandManager.commandExecutor().executeCommand(
             sender,
             input,
-            cloudContext -> cloudContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, source)
+            cloudContext -> {
+                NativeSenders.store(cloudContext, source);
+                if (parsedArguments != null) {
+                    cloudContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_PARSED_ARGUMENTS, parsedArguments);
+                }
+            }
         );
         return com.mojang.brigadier.Command.SINGLE_SUCCESS;
     }
 
     /**
-     * Return type changed at some point, but information is essentially the same. This code works for both versions of the
-     * method.
+     * Returns the nodes that have been parsed in the given context, as a new list.
+     *
+     * <p>{@link ParsedNodes#forEach(CommandContext, ParsedNodes.Visitor)} visits the nodes without copying them.</p>
      *
      * @param commandContext command context
      * @param <S>            source type
      * @return parsed nodes
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public static <S> List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> parsedNodes(
         final com.mojang.brigadier.context.CommandContext<S> commandContext
     ) {
-        try {
-            final Method getNodesMethod = commandContext.getClass().getDeclaredMethod("getNodes");
-            final Object nodes = getNodesMethod.invoke(commandContext);
-            if (nodes instanceof List) {
-                return ParsedCommandNodeHandler.toPairList((List) nodes);
-            } else if (nodes instanceof Map) {
-                return ((Map<com.mojang.brigadier.tree.CommandNode<S>, StringRange>) nodes).entrySet().stream()
-                    .map(entry -> Pair.of(entry.getKey(), entry.getValue()))
-                    .collect(Collectors.toList());
-            } else {
-                throw new IllegalStateException();
-            }
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
-        }
-    }
-
-
-    // Inner class to prevent attempting to load ParsedCommandNode when it doesn't exist
-    @SuppressWarnings("unchecked")
-    private static final class ParsedCommandNodeHandler {
-
-        private ParsedCommandNodeHandler() {
-        }
-
-        private static <S> List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> toPairList(final List<?> nodes) {
-            return ((List<ParsedCommandNode<S>>) nodes).stream()
-                .map(n -> Pair.of(n.getNode(), n.getRange()))
-                .collect(Collectors.toList());
-        }
+        final List<Pair<com.mojang.brigadier.tree.CommandNode<S>, StringRange>> nodes = new ArrayList<>();
+        ParsedNodes.forEach(commandContext, (node, range) -> nodes.add(Pair.of(node, range)));
+        return nodes;
     }
 }
@@ -32,11 +32,12 @@ import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
+import java.time.Duration;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -49,8 +50,10 @@ import org.incendo.cloud.brigadier.argument.BrigadierMappingBuilder;
 import org.incendo.cloud.brigadier.argument.BrigadierMappingContributor;
 import org.incendo.cloud.brigadier.argument.BrigadierMappings;
 import org.incendo.cloud.brigadier.node.LiteralBrigadierNodeFactory;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
+import org.incendo.cloud.brigadier.util.MemoizingSenderMapper;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.flag.CommandFlagParser;
 import org.incendo.cloud.parser.standard.BooleanParser;
@@ -82,6 +85,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
     private final Map<@NonNull Class<?>, @NonNull ArgumentTypeFactory<?>> defaultArgumentTypeSuppliers;
     private final Configurable<BrigadierSetting> settings = Configurable.enumConfigurable(BrigadierSetting.class);
     private final SenderMapper<S, C> brigadierSourceMapper;
+    private final MemoizingSenderMapper<S, C> memoizingSourceMapper;
 
     /**
      * Create a new cloud brigadier manager
@@ -94,7 +98,8 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
             final @NonNull SenderMapper<S, C> brigadierSourceMapper
     ) {
         this.brigadierSourceMapper = Objects.requireNonNull(brigadierSourceMapper, "brigadierSourceMapper");
-        this.defaultArgumentTypeSuppliers = new HashMap<>();
+        this.memoizingSourceMapper = MemoizingSenderMapper.of(brigadierSourceMapper);
+        this.defaultArgumentTypeSuppliers = new ConcurrentHashMap<>();
         this.literalBrigadierNodeFactory = new LiteralBrigadierNodeFactory<>(
                 this,
                 commandManager,
@@ -106,14 +111,10 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
             BrigadierMappingContributor.class.getClassLoader()
         );
         loader.iterator().forEachRemaining(contributor -> contributor.contribute(commandManager, this));
-        commandManager.registerCommandPreProcessor(ctx -> {
-            if (!ctx.commandContext().contains(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)) {
-                ctx.commandContext().store(
-                        WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER,
-                        this.brigadierSourceMapper.reverse(ctx.commandContext().sender())
-                );
-            }
-        });
+        commandManager.registerCommandPreProcessor(ctx -> NativeSenders.storeSupplier(
+                ctx.commandContext(),
+                () -> this.brigadierSourceMapper.reverse(ctx.commandContext().sender())
+        ));
     }
 
     private void registerInternalMappings() {
@@ -221,11 +222,37 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
         return this.settings;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If {@link BrigadierSetting#MEMOIZE_SENDER_MAPPING} is enabled, the returned mapper memoizes the mapped senders,
+     * see {@link MemoizingSenderMapper}.</p>
+     */
     @Override
     public @NonNull SenderMapper<S, C> senderMapper() {
+        if (this.settings.get(BrigadierSetting.MEMOIZE_SENDER_MAPPING)) {
+            return this.memoizingSourceMapper;
+        }
         return this.brigadierSourceMapper;
     }
 
+    /**
+     * Enables caching of the cloud suggestions that are requested through Brigadier. Results are cached per sender and
+     * input up to the last token boundary, and suggestions for a token that is being typed are produced by filtering the
+     * cached suggestions.
+     *
+     * <p>This should only be enabled if the suggestion providers do not depend on the partial token that is being completed,
+     * see {@link org.incendo.cloud.minecraft.suggestion.CachingSuggestionFactory}.</p>
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param expireAfter how long a result may be used after it has been computed
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public void cacheSuggestions(final int maximumSize, final @NonNull Duration expireAfter) {
+        this.literalBrigadierNodeFactory.brigadierSuggestionFactory().cacheSuggestions(maximumSize, expireAfter);
+    }
+
     /**
      * Sets whether Brigadier's native suggestions for number types will be used, or if cloud's number suggestions should be
      * used instead. At the time of writing the native suggestions are equivalent to
@@ -273,6 +300,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
             );
         }
         this.brigadierMappings.registerMapping(parserClass, mapping.withNativeSuggestions(nativeSuggestions));
+        this.literalBrigadierNodeFactory.invalidateBuiltNodes();
     }
 
     /**
@@ -291,6 +319,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
         final BrigadierMappingBuilder<K, S> builder = BrigadierMapping.builder();
         configurer.accept(builder);
         this.mappings().registerMappingUnsafe((Class<K>) GenericTypeReflector.erase(parserType.getType()), builder.build());
+        this.literalBrigadierNodeFactory.invalidateBuiltNodes();
     }
 
     /**
@@ -329,6 +358,7 @@ public final class CloudBrigadierManager<C, S> implements SenderMapperHolder<S,
             final @NonNull ArgumentTypeFactory<T> factory
     ) {
         this.defaultArgumentTypeSuppliers.put(clazz, factory);
+        this.literalBrigadierNodeFactory.invalidateBuiltNodes();
     }
 
     /**
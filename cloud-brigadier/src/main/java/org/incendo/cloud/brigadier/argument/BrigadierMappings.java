@@ -52,6 +52,18 @@ public interface BrigadierMappings<C, S> {
      */
     <T, K extends ArgumentParser<C, T>> @Nullable BrigadierMapping<C, K, S> mapping(@NonNull Class<K> parserType);
 
+    /**
+     * Returns the mapper for the given {@code parserType}, or the mapper of its closest superclass if no mapping has been
+     * registered for the {@code parserType} itself.
+     *
+     * @param <T>        the type produced by the parser
+     * @param <K>        the parser type
+     * @param parserType the parser type
+     * @return the mapping, or {@code null}
+     * @see org.incendo.cloud.brigadier.BrigadierSetting#RESOLVE_SUPERCLASS_MAPPINGS
+     */
+    <T, K extends ArgumentParser<C, T>> @Nullable BrigadierMapping<C, K, S> mappingOrSuperclass(@NonNull Class<K> parserType);
+
     /**
      * Registers the {@code mapping} for the given {@code parserType}.
      *
@@ -23,20 +23,29 @@
 //
 package org.incendo.cloud.brigadier.argument;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.parser.ArgumentParser;
 
+/**
+ * Copy-on-write implementation of {@link BrigadierMappings}.
+ *
+ * <p>Registrations replace the immutable {@link State state} of the mappings, so that lookups only need to read the
+ * current state. The mappings that {@link #mappingOrSuperclass(Class)} resolves from the superclasses of a parser type
+ * are cached per parser type, using a {@link ClassValue} so that the parser classes can still be unloaded, until the next
+ * registration.</p>
+ */
 @SuppressWarnings("unchecked")
 final class BrigadierMappingsImpl<C, S> implements BrigadierMappings<C, S> {
 
-    private final Map<Class<?>, BrigadierMapping<?, ?, S>> mappers = new HashMap<>();
+    private volatile State<S> state = new State<>(Collections.emptyMap());
 
     @Override
     public @Nullable <T, K extends ArgumentParser<C, T>> BrigadierMapping<C, K, S> mapping(final @NonNull Class<K> parserType) {
-        final BrigadierMapping<?, ?, S> mapper = this.mappers.get(parserType);
+        final BrigadierMapping<?, ?, S> mapper = this.state.mappers.get(parserType);
         if (mapper == null) {
             return null;
         }
@@ -44,10 +53,59 @@ final class BrigadierMappingsImpl<C, S> implements BrigadierMappings<C, S> {
     }
 
     @Override
-    public <K extends ArgumentParser<C, ?>> void registerMappingUnsafe(
+    public @Nullable <T, K extends ArgumentParser<C, T>> BrigadierMapping<C, K, S> mappingOrSuperclass(
+            final @NonNull Class<K> parserType
+    ) {
+        final BrigadierMapping<?, ?, S> mapper = this.state.resolve(parserType);
+        if (mapper == null) {
+            return null;
+        }
+        return (BrigadierMapping<C, K, S>) mapper;
+    }
+
+    @Override
+    public synchronized <K extends ArgumentParser<C, ?>> void registerMappingUnsafe(
             final @NonNull Class<K> parserType,
             final @NonNull BrigadierMapping<?, ?, S> mapping
     ) {
-        this.mappers.put(parserType, mapping);
+        final Map<Class<?>, BrigadierMapping<?, ?, S>> mappers = new HashMap<>(this.state.mappers);
+        mappers.put(parserType, mapping);
+        this.state = new State<>(Collections.unmodifiableMap(mappers));
+    }
+
+
+    private static final class State<S> {
+
+        /**
+         * Marks parser types that resolved to no mapping, as the resolved mappings cannot store {@code null}.
+         */
+        private static final Object NONE = new Object();
+
+        private final Map<Class<?>, BrigadierMapping<?, ?, S>> mappers;
+        private final ClassValue<Object> resolved = new ClassValue<Object>() {
+            @Override
+            protected Object computeValue(final Class<?> type) {
+                return State.this.resolveHierarchy(type);
+            }
+        };
+
+        private State(final @NonNull Map<Class<?>, BrigadierMapping<?, ?, S>> mappers) {
+            this.mappers = mappers;
+        }
+
+        private @Nullable BrigadierMapping<?, ?, S> resolve(final @NonNull Class<?> parserType) {
+            final Object mapping = this.resolved.get(parserType);
+            return mapping == NONE ? null : (BrigadierMapping<?, ?, S>) mapping;
+        }
+
+        private @NonNull Object resolveHierarchy(final @NonNull Class<?> parserType) {
+            for (Class<?> type = parserType; type != null && type != Object.class; type = type.getSuperclass()) {
+                final BrigadierMapping<?, ?, S> mapping = this.mappers.get(type);
+                if (mapping != null) {
+                    return mapping;
+                }
+            }
+            return NONE;
+        }
     }
 }
@@ -0,0 +1,275 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.node;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import com.mojang.brigadier.arguments.DoubleArgumentType;
+import com.mojang.brigadier.arguments.FloatArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.LongArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Computes {@link BrigadierTreeMetrics} for the part of a built Brigadier tree that is visible to a command source.
+ *
+ * <p>A node is visible if its requirement accepts the source and its parent is visible, which is how the platforms
+ * decide which nodes to send in the Commands packet. The targets of visible redirects are visible as well.</p>
+ *
+ * <p>The packet serializer writes every node instance once, but the tree that it serializes is the copy that the server
+ * builds for the source, which creates a new node for every parent that a child is added to and resolves redirects to the
+ * copy of their target. A node that is the child of more than one parent is therefore counted once per parent, whereas
+ * the target of a redirect is only counted once.</p>
+ *
+ * <p>The packet size is an estimate of the vanilla wire format: every node is written as its flags, the indices of its
+ * children and its redirect, its name, the parser of its argument type and the identifier of its suggestion provider.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class BrigadierTreeAnalyzer {
+
+    /**
+     * Length of the {@code minecraft:ask_server} identifier that custom suggestion providers are sent as.
+     */
+    private static final int SUGGESTION_PROVIDER_LENGTH = "minecraft:ask_server".length();
+
+    private BrigadierTreeAnalyzer() {
+    }
+
+    /**
+     * Analyzes the tree below {@code root} that is visible to the given {@code source}.
+     *
+     * @param <S>    brigadier command source type
+     * @param root   the root node
+     * @param source the command source
+     * @return the metrics
+     */
+    public static <S> @NonNull BrigadierTreeMetrics analyze(
+            final @NonNull RootCommandNode<S> root,
+            final @NonNull S source
+    ) {
+        final List<CommandNode<S>> nodes = new ArrayList<>();
+        final Walk walk = walk(root, 0, source, Collections.emptySet(), nodes);
+        return metrics(walk, nodes, source, nodes.size(), true /* includesRoot */);
+    }
+
+    /**
+     * Analyzes the tree below every child of {@code root} that is visible to the given {@code source}, which shows which
+     * commands contribute the most to the size of the Commands packet.
+     *
+     * <p>Redirects to the root node are counted, but the root node is not analyzed again for every child.</p>
+     *
+     * @param <S>    brigadier command source type
+     * @param root   the root node
+     * @param source the command source
+     * @return the metrics per child name, ordered from the largest to the smallest estimated packet size
+     */
+    public static <S> @NonNull Map<String, BrigadierTreeMetrics> analyzeChildren(
+            final @NonNull RootCommandNode<S> root,
+            final @NonNull S source
+    ) {
+        // The indices in the packet are sized by the number of nodes in the whole tree, including the root.
+        final int totalNodes = analyze(root, source).visibleNodes() + 1;
+        final List<Map.Entry<String, BrigadierTreeMetrics>> entries = new ArrayList<>();
+        for (final CommandNode<S> child : root.getChildren()) {
+            if (!child.canUse(source)) {
+                continue;
+            }
+            final List<CommandNode<S>> nodes = new ArrayList<>();
+            final Walk walk = walk(child, 1, source, Collections.singleton(root), nodes);
+            final BrigadierTreeMetrics childMetrics = metrics(walk, nodes, source, totalNodes, false /* includesRoot */);
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(child.getName(), childMetrics));
+        }
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<String, BrigadierTreeMetrics> entry) -> entry.getValue().estimatedPacketSize()
+        ).reversed());
+        final Map<String, BrigadierTreeMetrics> metrics = new LinkedHashMap<>();
+        for (final Map.Entry<String, BrigadierTreeMetrics> entry : entries) {
+            metrics.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Visits {@code start} and the nodes below it that are visible to the {@code source}, and adds them to {@code nodes}.
+     *
+     * @param start      the node to start from
+     * @param startDepth the depth of the start node
+     * @param source     the command source
+     * @param excluded   nodes that are not visited when they are the target of a redirect
+     * @param nodes      the list of visited nodes
+     * @return the maximum depth and the redirect count
+     */
+    private static <S> @NonNull Walk walk(
+            final @NonNull CommandNode<S> start,
+            final int startDepth,
+            final @NonNull S source,
+            final @NonNull Set<CommandNode<S>> excluded,
+            final @NonNull List<CommandNode<S>> nodes
+    ) {
+        final Set<CommandNode<S>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Queue<CommandNode<S>> queue = new ArrayDeque<>();
+        final Queue<Integer> depths = new ArrayDeque<>();
+        seen.add(start);
+        nodes.add(start);
+        queue.add(start);
+        depths.add(startDepth);
+
+        int maxDepth = startDepth;
+        int redirects = 0;
+        while (!queue.isEmpty()) {
+            final CommandNode<S> node = queue.poll();
+            final int depth = depths.poll();
+            maxDepth = Math.max(maxDepth, depth);
+
+            final CommandNode<S> redirect = node.getRedirect();
+            if (redirect != null) {
+                redirects++;
+                if (!excluded.contains(redirect) && seen.add(redirect)) {
+                    nodes.add(redirect);
+                    queue.add(redirect);
+                    depths.add(depth);
+                }
+            }
+
+            for (final CommandNode<S> child : node.getChildren()) {
+                if (!child.canUse(source)) {
+                    continue;
+                }
+                seen.add(child);
+                nodes.add(child);
+                queue.add(child);
+                depths.add(depth + 1);
+            }
+        }
+        return new Walk(maxDepth, redirects);
+    }
+
+    private static <S> @NonNull BrigadierTreeMetrics metrics(
+            final @NonNull Walk walk,
+            final @NonNull List<CommandNode<S>> nodes,
+            final @NonNull S source,
+            final int totalNodes,
+            final boolean includesRoot
+    ) {
+        final int indexSize = varIntSize(totalNodes);
+        long literalBytes = 0;
+        // The node count and the index of the root node are written once per packet.
+        long packetSize = includesRoot ? varIntSize(totalNodes) + indexSize : 0;
+        for (final CommandNode<S> node : nodes) {
+            int children = 0;
+            for (final CommandNode<S> child : node.getChildren()) {
+                if (child.canUse(source)) {
+                    children++;
+                }
+            }
+            // Flags, followed by the children and redirect indices.
+            packetSize += 1 + varIntSize(children) + (long) indexSize * children;
+            if (node.getRedirect() != null) {
+                packetSize += indexSize;
+            }
+            if (node instanceof LiteralCommandNode) {
+                final int length = ((LiteralCommandNode<?>) node).getLiteral().getBytes(StandardCharsets.UTF_8).length;
+                literalBytes += length;
+                packetSize += varIntSize(length) + length;
+            } else if (node instanceof ArgumentCommandNode) {
+                final ArgumentCommandNode<?, ?> argument = (ArgumentCommandNode<?, ?>) node;
+                final int length = argument.getName().getBytes(StandardCharsets.UTF_8).length;
+                // Name, followed by the parser id and its properties.
+                packetSize += varIntSize(length) + length + 1 + argumentPropertiesSize(argument.getType());
+                if (argument.getCustomSuggestions() != null) {
+                    packetSize += varIntSize(SUGGESTION_PROVIDER_LENGTH) + SUGGESTION_PROVIDER_LENGTH;
+                }
+            }
+        }
+        final int visibleNodes = includesRoot ? nodes.size() - 1 : nodes.size();
+        return BrigadierTreeMetricsImpl.of(visibleNodes, walk.redirects, literalBytes, walk.maxDepth, packetSize);
+    }
+
+    private static int argumentPropertiesSize(final @NonNull ArgumentType<?> argumentType) {
+        if (argumentType instanceof BoolArgumentType) {
+            return 0;
+        } else if (argumentType instanceof StringArgumentType) {
+            return 1;
+        } else if (argumentType instanceof IntegerArgumentType) {
+            final IntegerArgumentType type = (IntegerArgumentType) argumentType;
+            return 1 + (type.getMinimum() != Integer.MIN_VALUE ? Integer.BYTES : 0)
+                    + (type.getMaximum() != Integer.MAX_VALUE ? Integer.BYTES : 0);
+        } else if (argumentType instanceof LongArgumentType) {
+            final LongArgumentType type = (LongArgumentType) argumentType;
+            return 1 + (type.getMinimum() != Long.MIN_VALUE ? Long.BYTES : 0)
+                    + (type.getMaximum() != Long.MAX_VALUE ? Long.BYTES : 0);
+        } else if (argumentType instanceof FloatArgumentType) {
+            final FloatArgumentType type = (FloatArgumentType) argumentType;
+            return 1 + (type.getMinimum() != -Float.MAX_VALUE ? Float.BYTES : 0)
+                    + (type.getMaximum() != Float.MAX_VALUE ? Float.BYTES : 0);
+        } else if (argumentType instanceof DoubleArgumentType) {
+            final DoubleArgumentType type = (DoubleArgumentType) argumentType;
+            return 1 + (type.getMinimum() != -Double.MAX_VALUE ? Double.BYTES : 0)
+                    + (type.getMaximum() != Double.MAX_VALUE ? Double.BYTES : 0);
+        }
+        return 0;
+    }
+
+    private static int varIntSize(final int value) {
+        int size = 1;
+        int remaining = value >>> 7;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+
+    private static final class Walk {
+
+        private final int maxDepth;
+        private final int redirects;
+
+        private Walk(final int maxDepth, final int redirects) {
+            this.maxDepth = maxDepth;
+            this.redirects = redirects;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.node;
+
+import org.apiguardian.api.API;
+import org.immutables.value.Value;
+import org.incendo.cloud.internal.ImmutableImpl;
+
+/**
+ * Metrics of the part of a Brigadier tree that is visible to a command source, as computed by
+ * {@link BrigadierTreeAnalyzer}.
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+@Value.Immutable
+@ImmutableImpl
+public interface BrigadierTreeMetrics {
+
+    /**
+     * Returns the number of nodes that are sent to the command source, including the nodes that are only reachable
+     * through redirects, but excluding the root node.
+     *
+     * @return the visible node count
+     */
+    int visibleNodes();
+
+    /**
+     * Returns the number of visible nodes that redirect to another node.
+     *
+     * @return the redirect count
+     */
+    int redirects();
+
+    /**
+     * Returns the total length of the names of the visible literal nodes, in UTF-8 encoded bytes.
+     *
+     * @return the literal bytes
+     */
+    long literalBytes();
+
+    /**
+     * Returns the maximum depth of the visible nodes, where the children of the analyzed node have a depth of {@code 1}.
+     *
+     * @return the maximum depth
+     */
+    int maxDepth();
+
+    /**
+     * Returns the estimated number of bytes that the visible nodes take up in the serialized Commands packet.
+     *
+     * <p>The properties of argument types are only included for the argument types that are provided by Brigadier, as the
+     * other argument types are serialized by the platform.</p>
+     *
+     * @return the estimated packet size
+     */
+    long estimatedPacketSize();
+}
@@ -36,23 +36,34 @@ import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.brigadier.argument.ArgumentTypeFactory;
 import org.incendo.cloud.brigadier.argument.BrigadierMapping;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
 import org.incendo.cloud.brigadier.permission.BrigadierPermissionPredicate;
+import org.incendo.cloud.brigadier.permission.PermissionPredicateInterner;
 import org.incendo.cloud.brigadier.suggestion.BrigadierSuggestionFactory;
 import org.incendo.cloud.brigadier.suggestion.CloudDelegatingSuggestionProvider;
+import org.incendo.cloud.brigadier.suggestion.SiblingLiterals;
 import org.incendo.cloud.brigadier.suggestion.SuggestionsType;
 import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.parser.MappedArgumentParser;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
@@ -62,9 +73,23 @@ import org.incendo.cloud.suggestion.SuggestionFactory;
 @API(status = API.Status.STABLE, since = "2.0.0")
 public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFactory<C, S, LiteralCommandNode<S>> {
 
+    private static final AtomicInteger FACTORY_IDS = new AtomicInteger();
+    /**
+     * The number of children that a root needs to have for {@link BrigadierSetting#PARALLEL_TREE_BUILDS} to build them in
+     * parallel, as smaller roots are built faster than the tasks can be distributed.
+     */
+    private static final int PARALLEL_BUILD_THRESHOLD = 16;
+
     private final CloudBrigadierManager<C, S> cloudBrigadierManager;
     private final CommandManager<C> commandManager;
     private final BrigadierSuggestionFactory<C, S> brigadierSuggestionFactory;
+    private final PermissionPredicateInterner<C, S> requirements = new PermissionPredicateInterner<>();
+    private final CloudKey<BuiltNodes> builtNodesKey = CloudKey.of(
+            "_cloud_brigadier_built_nodes_" + FACTORY_IDS.incrementAndGet(),
+            BuiltNodes.class
+    );
+    private final BrigadierPermissionChecker<C> defaultPermissionChecker;
+    private final AtomicInteger generation = new AtomicInteger();
 
     /**
      * Creates a new factory that produces literal command nodes.
@@ -80,6 +105,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
     ) {
         this.cloudBrigadierManager = cloudBrigadierManager;
         this.commandManager = commandManager;
+        this.defaultPermissionChecker = (sender, permission) -> commandManager.testPermission(sender, permission).allowed();
         this.brigadierSuggestionFactory = new BrigadierSuggestionFactory<>(
                 cloudBrigadierManager,
                 commandManager,
@@ -87,6 +113,16 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
         );
     }
 
+    /**
+     * Returns the factory that produces the suggestions for nodes that use cloud suggestions.
+     *
+     * @return the suggestion factory
+     */
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public @NonNull BrigadierSuggestionFactory<C, S> brigadierSuggestionFactory() {
+        return this.brigadierSuggestionFactory;
+    }
+
     @Override
     public @NonNull LiteralCommandNode<S> createNode(
             final @NonNull String label,
@@ -100,17 +136,48 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
 
         this.updateExecutes(literalArgumentBuilder, cloudCommand, executor);
 
+        SiblingLiterals.update(cloudCommand);
+
+        final BuildKey<C, S> buildKey = this.cloudBrigadierManager.settings().get(BrigadierSetting.INCREMENTAL_TREE_BUILDS)
+                ? new BuildKey<>(this, label, permissionChecker, executor)
+                : null;
         final LiteralCommandNode<S> constructedRoot = literalArgumentBuilder.build();
-        for (final CommandNode<C> child : cloudCommand.children()) {
-            constructedRoot.addChild(this.constructCommandNode(child, permissionChecker, executor).build());
+        final List<CommandNode<C>> children = new ArrayList<>(cloudCommand.children());
+        if (this.cloudBrigadierManager.settings().get(BrigadierSetting.PARALLEL_TREE_BUILDS)
+                && children.size() >= PARALLEL_BUILD_THRESHOLD) {
+            // The list stream keeps the encounter order, so the children are added in the same order as sequential builds
+            children.parallelStream()
+                    .map(child -> this.buildCommandNode(child, permissionChecker, executor, buildKey))
+                    .collect(Collectors.toList())
+                    .forEach(constructedRoot::addChild);
+        } else {
+            for (final CommandNode<C> child : children) {
+                constructedRoot.addChild(this.buildCommandNode(child, permissionChecker, executor, buildKey));
+            }
         }
         return constructedRoot;
     }
 
-    private @NonNull BrigadierPermissionPredicate<C, S> requirement(
+    /**
+     * Discards the Brigadier nodes that have been kept for {@link BrigadierSetting#INCREMENTAL_TREE_BUILDS incremental
+     * builds} and the requirements that have been {@link BrigadierSetting#INTERN_REQUIREMENTS shared}, so that the next
+     * build constructs every node again. This is invoked when the mappings of the manager change.
+     *
+     * @since 2.0.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public void invalidateBuiltNodes() {
+        this.generation.incrementAndGet();
+        this.requirements.clear();
+    }
+
+    private @NonNull Predicate<S> requirement(
             final @NonNull CommandNode<C> cloudCommand,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker
     ) {
+        if (this.cloudBrigadierManager.settings().get(BrigadierSetting.INTERN_REQUIREMENTS)) {
+            return this.requirements.requirement(this.cloudBrigadierManager.senderMapper(), permissionChecker, cloudCommand);
+        }
         return new BrigadierPermissionPredicate<>(this.cloudBrigadierManager.senderMapper(), permissionChecker, cloudCommand);
     }
 
@@ -134,12 +201,56 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
         final org.incendo.cloud.@NonNull Command<C> cloudCommand,
             final @NonNull Command<S> executor
     ) {
-        return this.createNode(label, cloudCommand, executor,
-                (sender, permission) -> this.commandManager.testPermission(sender, permission).allowed());
+        return this.createNode(label, cloudCommand, executor, this.defaultPermissionChecker);
+    }
+
+    /**
+     * Returns the Brigadier node for the given cloud {@code node}, reusing the node from the previous build if neither the
+     * cloud node nor any of its descendants have changed since, and a {@code buildKey} is given.
+     *
+     * @param node              the cloud node
+     * @param permissionChecker the permission checker
+     * @param executor          the Brigadier executor
+     * @param buildKey          the key of the current build, or {@code null} if nodes should not be reused
+     * @return the Brigadier node
+     */
+    private com.mojang.brigadier.tree.@NonNull CommandNode<S> buildCommandNode(
+            final @NonNull CommandNode<C> node,
+            final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+            final com.mojang.brigadier.@NonNull Command<S> executor,
+            final @Nullable BuildKey<C, S> buildKey
+    ) {
+        SiblingLiterals.update(node);
+
+        final List<CommandNode<C>> children = new ArrayList<>(node.children());
+        final List<com.mojang.brigadier.tree.CommandNode<S>> builtChildren = new ArrayList<>(children.size());
+        for (final CommandNode<C> child : children) {
+            builtChildren.add(this.buildCommandNode(child, permissionChecker, executor, buildKey));
+        }
+
+        if (buildKey == null) {
+            return this.constructCommandNode(node, builtChildren, permissionChecker, executor).build();
+        }
+
+        BuiltNodes<C, S> builtNodes = node.nodeMeta().getOrDefault(this.builtNodesKey, null);
+        if (builtNodes == null) {
+            // The node meta is only modified the first time the node is built, later builds update the map in place
+            builtNodes = new BuiltNodes<>();
+            node.nodeMeta().store(this.builtNodesKey, builtNodes);
+        }
+        final BuiltNode<C, S> previous = builtNodes.byLabel.get(buildKey.label);
+        if (previous != null && previous.matches(buildKey, node, children, builtChildren)) {
+            return previous.node;
+        }
+        final com.mojang.brigadier.tree.CommandNode<S> built =
+                this.constructCommandNode(node, builtChildren, permissionChecker, executor).build();
+        builtNodes.byLabel.put(buildKey.label, new BuiltNode<>(buildKey, node.command(), children, builtChildren, built));
+        return built;
     }
 
     private @NonNull ArgumentBuilder<S, ?> constructCommandNode(
             final @NonNull CommandNode<C> root,
+            final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker,
             final com.mojang.brigadier.@NonNull Command<S> executor
     ) {
@@ -148,6 +259,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             return this.constructAggregateNode(
                     aggregateParser,
                     root,
+                    children,
                     permissionChecker,
                     executor
             );
@@ -160,8 +272,8 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             argumentBuilder = this.createVariableArgumentBuilder(root.component(), root, permissionChecker);
         }
         this.updateExecutes(argumentBuilder, root, executor);
-        for (final CommandNode<C> node : root.children()) {
-            argumentBuilder.then(this.constructCommandNode(node, permissionChecker, executor));
+        for (final com.mojang.brigadier.tree.CommandNode<S> child : children) {
+            argumentBuilder.then(child);
         }
         return argumentBuilder;
     }
@@ -201,6 +313,7 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
     private @NonNull ArgumentBuilder<S, ?> constructAggregateNode(
             final @NonNull AggregateParser<C, ?> aggregateParser,
             final @NonNull CommandNode<C> root,
+            final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> children,
             final @NonNull BrigadierPermissionChecker<C> permissionChecker,
             final com.mojang.brigadier.@NonNull Command<S> executor
     ) {
@@ -220,8 +333,8 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
 
         // We now want to link up all subsequent components to the tail.
         final ArgumentBuilder<S, ?> tail = argumentBuilders.get(argumentBuilders.size() - 1);
-        for (final CommandNode<C> node : root.children()) {
-            tail.then(this.constructCommandNode(node, permissionChecker, executor));
+        for (final com.mojang.brigadier.tree.CommandNode<S> child : children) {
+            tail.then(child);
         }
 
         this.updateExecutes(tail, root, executor);
@@ -252,7 +365,10 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
             return this.getArgument(valueType, ((MappedArgumentParser<C, ?, ?>) argumentParser).baseParser());
         }
 
-        final BrigadierMapping<C, K, S> mapping = this.cloudBrigadierManager.mappings().mapping(argumentParser.getClass());
+        final BrigadierMapping<C, K, S> mapping =
+                this.cloudBrigadierManager.settings().get(BrigadierSetting.RESOLVE_SUPERCLASS_MAPPINGS)
+                        ? this.cloudBrigadierManager.mappings().mappingOrSuperclass(argumentParser.getClass())
+                        : this.cloudBrigadierManager.mappings().mapping(argumentParser.getClass());
         if (mapping == null || mapping.mapper() == null) {
             return this.getDefaultMapping(valueType);
         }
@@ -318,7 +434,190 @@ public final class LiteralBrigadierNodeFactory<C, S> implements BrigadierNodeFac
                 || node.command() != null
                 || node.children().stream().map(CommandNode::component)
                 .filter(Objects::nonNull).anyMatch(CommandComponent::optional)) {
-            builder.executes(executor);
+            builder.executes(this.nodeExecutor(node, executor));
+        }
+    }
+
+    /**
+     * Returns the executor of the given {@code node}, which is the
+     * {@link CloudBrigadierCommand#literalCommand(org.incendo.cloud.Command) literal command} of the command of the node if
+     * {@link BrigadierSetting#DIRECT_LITERAL_EXECUTION} is enabled and the command only consists of literals.
+     *
+     * @param node     cloud node
+     * @param executor brigadier executor
+     * @return the executor of the node
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull Command<S> nodeExecutor(final @NonNull CommandNode<C> node, final @NonNull Command<S> executor) {
+        final org.incendo.cloud.Command<C> command = node.command();
+        if (command == null
+                || !(executor instanceof CloudBrigadierCommand)
+                || !this.cloudBrigadierManager.settings().get(BrigadierSetting.DIRECT_LITERAL_EXECUTION)) {
+            return executor;
+        }
+        for (final CommandComponent<C> component : command.components()) {
+            if (component.type() != CommandComponent.ComponentType.LITERAL) {
+                return executor;
+            }
+        }
+        return ((CloudBrigadierCommand<C, S>) executor).literalCommand(command);
+    }
+
+
+    /**
+     * Identifies the inputs of a build that are not part of the cloud tree. Nodes are only reused by builds with an equal key,
+     * so the trees of different root labels, such as aliases, never share nodes, and nodes that hold argument types of an
+     * older {@link RegistryGeneration#global() registry generation} are built again.
+     */
+    private static final class BuildKey<C, S> {
+
+        private final String label;
+        private final BrigadierPermissionChecker<C> permissionChecker;
+        private final com.mojang.brigadier.Command<S> executor;
+        private final int generation;
+        private final long registryGeneration;
+        private final boolean forceExecutable;
+        private final boolean internRequirements;
+        private final boolean resolveSuperclassMappings;
+        private final boolean directLiteralExecution;
+
+        private BuildKey(
+                final @NonNull LiteralBrigadierNodeFactory<C, S> factory,
+                final @NonNull String label,
+                final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+                final com.mojang.brigadier.@NonNull Command<S> executor
+        ) {
+            this.label = label;
+            this.permissionChecker = permissionChecker;
+            this.executor = executor;
+            this.generation = factory.generation.get();
+            this.registryGeneration = RegistryGeneration.global().current();
+            this.forceExecutable = factory.cloudBrigadierManager.settings().get(BrigadierSetting.FORCE_EXECUTABLE);
+            this.internRequirements = factory.cloudBrigadierManager.settings().get(BrigadierSetting.INTERN_REQUIREMENTS);
+            this.resolveSuperclassMappings =
+                    factory.cloudBrigadierManager.settings().get(BrigadierSetting.RESOLVE_SUPERCLASS_MAPPINGS);
+            this.directLiteralExecution = factory.cloudBrigadierManager.settings().get(BrigadierSetting.DIRECT_LITERAL_EXECUTION);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final BuildKey<?, ?> that = (BuildKey<?, ?>) object;
+            return this.label.equals(that.label)
+                    && this.permissionChecker == that.permissionChecker
+                    && this.executor == that.executor
+                    && this.generation == that.generation
+                    && this.registryGeneration == that.registryGeneration
+                    && this.forceExecutable == that.forceExecutable
+                    && this.internRequirements == that.internRequirements
+                    && this.resolveSuperclassMappings == that.resolveSuperclassMappings
+                    && this.directLiteralExecution == that.directLiteralExecution;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    this.label,
+                    System.identityHashCode(this.permissionChecker),
+                    System.identityHashCode(this.executor),
+                    this.generation,
+                    this.registryGeneration,
+                    this.forceExecutable,
+                    this.internRequirements,
+                    this.resolveSuperclassMappings,
+                    this.directLiteralExecution
+            );
+        }
+    }
+
+
+    /**
+     * The Brigadier nodes that have been built from a cloud node, by the root label of the build. The same cloud node is
+     * built once for every label that it is registered under, such as aliases that are not redirected.
+     */
+    private static final class BuiltNodes<C, S> {
+
+        private final Map<String, BuiltNode<C, S>> byLabel = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * A Brigadier node together with the state of the cloud node that it was built from.
+     */
+    private static final class BuiltNode<C, S> {
+
+        private final BuildKey<C, S> buildKey;
+        private final org.incendo.cloud.@Nullable Command<C> command;
+        private final List<CommandNode<C>> children;
+        private final List<com.mojang.brigadier.tree.CommandNode<S>> builtChildren;
+        private final com.mojang.brigadier.tree.CommandNode<S> node;
+
+        private BuiltNode(
+                final @NonNull BuildKey<C, S> buildKey,
+                final org.incendo.cloud.@Nullable Command<C> command,
+                final @NonNull List<CommandNode<C>> children,
+                final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> builtChildren,
+                final com.mojang.brigadier.tree.@NonNull CommandNode<S> node
+        ) {
+            this.buildKey = buildKey;
+            this.command = command;
+            this.children = children;
+            this.builtChildren = builtChildren;
+            this.node = node;
+        }
+
+        /**
+         * Returns whether the node can be reused for the given cloud {@code node}, which is the case if it was built by an
+         * equal build, the command of the node is unchanged, the children are the same instances as before and the Brigadier
+         * node still holds exactly the built children. The last check rejects nodes that have been modified after the build,
+         * for example when a platform merged other nodes into them.
+         *
+         * @param buildKey      the key of the current build
+         * @param node          the cloud node
+         * @param children      the current children of the cloud node
+         * @param builtChildren the Brigadier nodes of the children in the current build
+         * @return {@code true} if the node can be reused, else {@code false}
+         */
+        private boolean matches(
+                final @NonNull BuildKey<C, S> buildKey,
+                final @NonNull CommandNode<C> node,
+                final @NonNull List<CommandNode<C>> children,
+                final @NonNull List<com.mojang.brigadier.tree.CommandNode<S>> builtChildren
+        ) {
+            return this.buildKey.equals(buildKey)
+                    && this.command == node.command()
+                    && sameInstances(this.children, children)
+                    && sameInstances(this.builtChildren, builtChildren)
+                    && this.unmodified();
+        }
+
+        private boolean unmodified() {
+            if (this.node.getChildren().size() != this.builtChildren.size()) {
+                return false;
+            }
+            for (final com.mojang.brigadier.tree.CommandNode<S> builtChild : this.builtChildren) {
+                if (this.node.getChild(builtChild.getName()) != builtChild) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameInstances(final @NonNull List<?> first, final @NonNull List<?> second) {
+            if (first.size() != second.size()) {
+                return false;
+            }
+            for (int i = 0; i < first.size(); i++) {
+                if (first.get(i) != second.get(i)) {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
@@ -0,0 +1,132 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import java.util.HashMap;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.brigadier.util.ParsedNodes;
+import org.incendo.cloud.context.CommandInput;
+
+/**
+ * Argument values that have already been parsed by Brigadier, indexed by their position in the cloud input.
+ *
+ * <p>{@link WrappedBrigadierParser} consults these values before invoking the native {@link ArgumentType}, which
+ * means that arguments that Brigadier parsed while dispatching the command do not get parsed a second time.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.0.0")
+public final class BrigadierParsedArguments {
+
+    private final Map<Integer, ParsedArgument> arguments;
+
+    private BrigadierParsedArguments(final @NonNull Map<Integer, ParsedArgument> arguments) {
+        this.arguments = arguments;
+    }
+
+    /**
+     * Collects the arguments parsed by Brigadier in the given {@code context}.
+     *
+     * <p>The {@code offset} is the amount of characters that have been removed from the start of the Brigadier input
+     * before it was passed to cloud, such as the leading slash and namespace.</p>
+     *
+     * @param <S>     Brigadier command source type
+     * @param context the Brigadier context containing the parsed arguments
+     * @param offset  the offset between Brigadier and cloud positions
+     * @return the parsed arguments
+     */
+    public static <S> @NonNull BrigadierParsedArguments of(
+            final @NonNull CommandContext<S> context,
+            final int offset
+    ) {
+        final Map<Integer, ParsedArgument> arguments = new HashMap<>();
+        ParsedNodes.forEach(context, (parsedNode, range) -> {
+            if (!(parsedNode instanceof ArgumentCommandNode)) {
+                return;
+            }
+            final ArgumentCommandNode<S, ?> node = (ArgumentCommandNode<S, ?>) parsedNode;
+            final int start = range.getStart() - offset;
+            if (start < 0) {
+                return;
+            }
+            final Object value;
+            try {
+                value = context.getArgument(node.getName(), Object.class);
+            } catch (final IllegalArgumentException ignored) {
+                return;
+            }
+            arguments.put(start, new ParsedArgument(node.getType(), range.get(context.getInput()), value));
+        });
+        return new BrigadierParsedArguments(arguments);
+    }
+
+    /**
+     * Returns the value that Brigadier parsed at the current position of the {@code commandInput} using an argument type
+     * whose values the given {@code parser} {@link WrappedBrigadierParser#producesValuesOf(ArgumentType) produces}, and
+     * moves the cursor past the consumed input. If no such value exists, {@code null} is returned and the input is left
+     * untouched.
+     *
+     * <p>The argument type of the parser is only requested if a value was parsed at the current position.</p>
+     *
+     * @param <T>          value type
+     * @param commandInput the command input
+     * @param parser       the parser that would otherwise parse the input
+     * @return the parsed value, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    <T> @Nullable T consume(final @NonNull CommandInput commandInput, final @NonNull WrappedBrigadierParser<?, T> parser) {
+        final ParsedArgument argument = this.arguments.get(commandInput.cursor());
+        if (argument == null || !commandInput.input().startsWith(argument.text, commandInput.cursor())) {
+            return null;
+        }
+        if (!parser.producesValuesOf(argument.argumentType)) {
+            return null;
+        }
+        commandInput.moveCursor(argument.text.length());
+        return (T) argument.value;
+    }
+
+    private static final class ParsedArgument {
+
+        private final ArgumentType<?> argumentType;
+        private final String text;
+        private final Object value;
+
+        private ParsedArgument(
+                final @NonNull ArgumentType<?> argumentType,
+                final @NonNull String text,
+                final @NonNull Object value
+        ) {
+            this.argumentType = argumentType;
+            this.text = text;
+            this.value = value;
+        }
+    }
+}
@@ -24,12 +24,23 @@
 package org.incendo.cloud.brigadier.parser;
 
 import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.context.CommandInput;
 
+/**
+ * {@link StringReader} that reads from a {@link CommandInput}.
+ *
+ * <p>The cursor of the command input is the only cursor. Every method that reads or moves the cursor of this reader
+ * operates directly on the command input, so the two can never disagree and no cursor has to be copied back after
+ * reading. The bulk operations scan ahead using a local index and move the cursor of the command input once.</p>
+ */
 final class CloudStringReader extends StringReader {
 
+    private static final char SYNTAX_ESCAPE = '\\';
+
     private final CommandInput commandInput;
+    private final String string;
 
     static @NonNull CloudStringReader of(final @NonNull CommandInput commandInput) {
         return new CloudStringReader(commandInput);
@@ -38,24 +49,248 @@ final class CloudStringReader extends StringReader {
     private CloudStringReader(final @NonNull CommandInput commandInput) {
         super(commandInput.input());
         this.commandInput = commandInput;
-        super.setCursor(commandInput.cursor());
+        this.string = commandInput.input();
+    }
+
+    @Override
+    public String getString() {
+        return this.string;
+    }
+
+    @Override
+    public int getCursor() {
+        return this.commandInput.cursor();
     }
 
     @Override
     public void setCursor(final int cursor) {
-        super.setCursor(cursor);
         this.commandInput.cursor(cursor);
     }
 
+    @Override
+    public int getRemainingLength() {
+        return this.string.length() - this.getCursor();
+    }
+
+    @Override
+    public int getTotalLength() {
+        return this.string.length();
+    }
+
+    @Override
+    public String getRead() {
+        return this.string.substring(0, this.getCursor());
+    }
+
+    @Override
+    public String getRemaining() {
+        return this.string.substring(this.getCursor());
+    }
+
+    @Override
+    public boolean canRead(final int length) {
+        return this.getCursor() + length <= this.string.length();
+    }
+
+    @Override
+    public boolean canRead() {
+        return this.canRead(1);
+    }
+
+    @Override
+    public char peek() {
+        return this.string.charAt(this.getCursor());
+    }
+
+    @Override
+    public char peek(final int offset) {
+        return this.string.charAt(this.getCursor() + offset);
+    }
+
     @Override
     public char read() {
-        super.read(); // We need to advance the cursor.
-        return this.commandInput.read();
+        final int cursor = this.getCursor();
+        final char read = this.string.charAt(cursor);
+        this.setCursor(cursor + 1);
+        return read;
     }
 
     @Override
     public void skip() {
-        super.skip();
-        this.commandInput.moveCursor(1);
+        this.setCursor(this.getCursor() + 1);
+    }
+
+    @Override
+    public void skipWhitespace() {
+        int cursor = this.getCursor();
+        while (cursor < this.string.length() && Character.isWhitespace(this.string.charAt(cursor))) {
+            cursor++;
+        }
+        this.setCursor(cursor);
+    }
+
+    @Override
+    public int readInt() throws CommandSyntaxException {
+        final int start = this.getCursor();
+        final String number = this.readNumber();
+        if (number.isEmpty()) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedInt().createWithContext(this);
+        }
+        try {
+            return Integer.parseInt(number);
+        } catch (final NumberFormatException ex) {
+            this.setCursor(start);
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidInt().createWithContext(this, number);
+        }
+    }
+
+    @Override
+    public long readLong() throws CommandSyntaxException {
+        final int start = this.getCursor();
+        final String number = this.readNumber();
+        if (number.isEmpty()) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedLong().createWithContext(this);
+        }
+        try {
+            return Long.parseLong(number);
+        } catch (final NumberFormatException ex) {
+            this.setCursor(start);
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidLong().createWithContext(this, number);
+        }
+    }
+
+    @Override
+    public double readDouble() throws CommandSyntaxException {
+        final int start = this.getCursor();
+        final String number = this.readNumber();
+        if (number.isEmpty()) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedDouble().createWithContext(this);
+        }
+        try {
+            return Double.parseDouble(number);
+        } catch (final NumberFormatException ex) {
+            this.setCursor(start);
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidDouble().createWithContext(this, number);
+        }
+    }
+
+    @Override
+    public float readFloat() throws CommandSyntaxException {
+        final int start = this.getCursor();
+        final String number = this.readNumber();
+        if (number.isEmpty()) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedFloat().createWithContext(this);
+        }
+        try {
+            return Float.parseFloat(number);
+        } catch (final NumberFormatException ex) {
+            this.setCursor(start);
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidFloat().createWithContext(this, number);
+        }
+    }
+
+    @Override
+    public String readUnquotedString() {
+        final int start = this.getCursor();
+        int cursor = start;
+        while (cursor < this.string.length() && isAllowedInUnquotedString(this.string.charAt(cursor))) {
+            cursor++;
+        }
+        this.setCursor(cursor);
+        return this.string.substring(start, cursor);
+    }
+
+    @Override
+    public String readQuotedString() throws CommandSyntaxException {
+        if (!this.canRead()) {
+            return "";
+        }
+        final char next = this.peek();
+        if (!isQuotedStringStart(next)) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedStartOfQuote().createWithContext(this);
+        }
+        this.skip();
+        return this.readStringUntil(next);
+    }
+
+    @Override
+    public String readStringUntil(final char terminator) throws CommandSyntaxException {
+        final StringBuilder result = new StringBuilder();
+        boolean escaped = false;
+        int cursor = this.getCursor();
+        while (cursor < this.string.length()) {
+            final char c = this.string.charAt(cursor++);
+            if (escaped) {
+                if (c == terminator || c == SYNTAX_ESCAPE) {
+                    result.append(c);
+                    escaped = false;
+                } else {
+                    this.setCursor(cursor - 1);
+                    throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidEscape()
+                            .createWithContext(this, String.valueOf(c));
+                }
+            } else if (c == SYNTAX_ESCAPE) {
+                escaped = true;
+            } else if (c == terminator) {
+                this.setCursor(cursor);
+                return result.toString();
+            } else {
+                result.append(c);
+            }
+        }
+        this.setCursor(cursor);
+        throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedEndOfQuote().createWithContext(this);
+    }
+
+    @Override
+    public String readString() throws CommandSyntaxException {
+        if (!this.canRead()) {
+            return "";
+        }
+        final char next = this.peek();
+        if (isQuotedStringStart(next)) {
+            this.skip();
+            return this.readStringUntil(next);
+        }
+        return this.readUnquotedString();
+    }
+
+    @Override
+    public boolean readBoolean() throws CommandSyntaxException {
+        final int start = this.getCursor();
+        final String value = this.readString();
+        if (value.isEmpty()) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedBool().createWithContext(this);
+        }
+        if (value.equals("true")) {
+            return true;
+        } else if (value.equals("false")) {
+            return false;
+        }
+        this.setCursor(start);
+        throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerInvalidBool().createWithContext(this, value);
+    }
+
+    @Override
+    public void expect(final char c) throws CommandSyntaxException {
+        if (!this.canRead() || this.peek() != c) {
+            throw CommandSyntaxException.BUILT_IN_EXCEPTIONS.readerExpectedSymbol().createWithContext(this, String.valueOf(c));
+        }
+        this.skip();
+    }
+
+    /**
+     * Reads the longest run of characters that are allowed in a number, starting at the cursor.
+     *
+     * @return the characters that were read
+     */
+    private @NonNull String readNumber() {
+        final int start = this.getCursor();
+        int cursor = start;
+        while (cursor < this.string.length() && isAllowedNumber(this.string.charAt(cursor))) {
+            cursor++;
+        }
+        this.setCursor(cursor);
+        return this.string.substring(start, cursor);
     }
 }
@@ -0,0 +1,134 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+
+/**
+ * Access to the native Brigadier sender that is stored in a {@link CommandContext}.
+ *
+ * <p>Platforms that can only obtain the native sender through an expensive conversion should store a supplier using
+ * {@link #storeSupplier(CommandContext, Supplier)}. The supplier is invoked the first time the sender is requested through
+ * {@link #nativeSender(CommandContext)}, and the result is then stored under
+ * {@link WrappedBrigadierParser#COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER}. As the platforms of cloud store a supplier when
+ * the command was not dispatched by Brigadier, the native sender should always be read through this class rather than
+ * through that key.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class NativeSenders {
+
+    /**
+     * Key used to store a {@link Supplier} of the native sender, see {@link #storeSupplier(CommandContext, Supplier)}.
+     */
+    public static final String COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER = "_cloud_brigadier_native_sender_supplier";
+
+    /**
+     * The key of the resolved native sender, which is the key of {@link WrappedBrigadierParser#COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER}.
+     */
+    private static final String NATIVE_SENDER_KEY = "_cloud_brigadier_native_sender";
+
+    private NativeSenders() {
+    }
+
+    /**
+     * Stores the given native {@code sender}, replacing any native sender or supplier of it that has been stored before.
+     *
+     * @param commandContext the command context
+     * @param sender         the native sender
+     */
+    public static void store(final @NonNull CommandContext<?> commandContext, final @NonNull Object sender) {
+        commandContext.store(NATIVE_SENDER_KEY, sender);
+        commandContext.remove(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER);
+    }
+
+    /**
+     * Stores the given {@code supplier} of the native sender, unless the context already contains a native sender or a
+     * supplier of it.
+     *
+     * @param commandContext the command context
+     * @param supplier       the supplier of the native sender
+     */
+    public static void storeSupplier(
+            final @NonNull CommandContext<?> commandContext,
+            final @NonNull Supplier<?> supplier
+    ) {
+        if (commandContext.contains(NATIVE_SENDER_KEY) || commandContext.contains(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER)) {
+            return;
+        }
+        commandContext.store(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER, supplier);
+    }
+
+    /**
+     * Returns the native sender of the given {@code commandContext}, resolving it from the stored supplier if it has not
+     * been resolved yet.
+     *
+     * @param commandContext the command context
+     * @param <S>            native sender type
+     * @return the native sender
+     * @throws NullPointerException if neither the native sender nor a supplier of it is stored in the context
+     */
+    public static <S> @NonNull S nativeSender(final @NonNull CommandContext<?> commandContext) {
+        final S sender = resolve(commandContext);
+        if (sender == null) {
+            throw new NullPointerException("There is no native sender or native sender supplier in the command context");
+        }
+        return sender;
+    }
+
+    /**
+     * Returns the native sender of the given {@code commandContext}, resolving it from the stored supplier if it has not
+     * been resolved yet. If neither the sender nor a supplier is stored, the given {@code fallback} is returned.
+     *
+     * @param commandContext the command context
+     * @param fallback       the value to return if no native sender is available
+     * @param <S>            native sender type
+     * @return the native sender, or the fallback
+     */
+    public static <S> @NonNull S nativeSenderOrDefault(final @NonNull CommandContext<?> commandContext, final @NonNull S fallback) {
+        final S sender = resolve(commandContext);
+        return sender == null ? fallback : sender;
+    }
+
+    private static <S> @Nullable S resolve(final @NonNull CommandContext<?> commandContext) {
+        final Optional<S> sender = commandContext.optional(NATIVE_SENDER_KEY);
+        if (sender.isPresent()) {
+            return sender.get();
+        }
+        final Optional<Supplier<S>> supplier = commandContext.optional(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER);
+        if (!supplier.isPresent()) {
+            return null;
+        }
+        final S resolved = supplier.get().get();
+        commandContext.store(NATIVE_SENDER_KEY, resolved);
+        commandContext.remove(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER_SUPPLIER);
+        return resolved;
+    }
+}
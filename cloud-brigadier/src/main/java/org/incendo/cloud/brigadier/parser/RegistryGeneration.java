@@ -0,0 +1,157 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Counter for the generations of the registries that Brigadier {@link com.mojang.brigadier.arguments.ArgumentType argument
+ * types} are built against.
+ *
+ * <p>Argument types such as item stacks capture the registries of the server when they are created. Values that are
+ * {@link #memoize(Supplier) memoized} against a registry generation are reused until the platform {@link #advance() advances}
+ * the generation, for example after the data packs of the server have been reloaded.</p>
+ *
+ * <p>Memoization only takes effect once the generation is {@link #track() tracked}, which a platform does when it is able
+ * to advance the generation whenever the registries change. Until then, memoized suppliers create a new value every time
+ * they are invoked, so that platforms without a reload signal never observe stale registries.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class RegistryGeneration {
+
+    private static final RegistryGeneration GLOBAL = new RegistryGeneration();
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean tracked;
+
+    /**
+     * Creates a new registry generation counter, starting at generation {@code 0}.
+     */
+    public RegistryGeneration() {
+    }
+
+    /**
+     * Returns the registry generation that is shared by the parsers and platforms of cloud.
+     *
+     * @return the global registry generation
+     */
+    public static @NonNull RegistryGeneration global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the current generation.
+     *
+     * @return the generation
+     */
+    public long current() {
+        return this.generation.get();
+    }
+
+    /**
+     * Signals that the registries have changed, which invalidates the values that were memoized against an older
+     * generation.
+     */
+    public void advance() {
+        this.generation.incrementAndGet();
+    }
+
+    /**
+     * Marks this generation as tracked, meaning that the caller {@link #advance() advances} it every time the registries
+     * change. Values are only memoized against tracked generations.
+     */
+    public void track() {
+        this.tracked = true;
+    }
+
+    /**
+     * Returns whether this generation is {@link #track() tracked}.
+     *
+     * @return whether the generation is tracked
+     */
+    public boolean tracked() {
+        return this.tracked;
+    }
+
+    /**
+     * Returns a supplier that invokes the given {@code supplier} once per generation, and returns the memoized value
+     * until the generation is {@link #advance() advanced}. If the generation is not {@link #track() tracked}, the
+     * {@code supplier} is invoked every time.
+     *
+     * @param supplier the supplier of the value
+     * @param <T>      the value type
+     * @return the memoizing supplier
+     */
+    public <T> @NonNull Supplier<T> memoize(final @NonNull Supplier<T> supplier) {
+        return new Memoized<>(this, requireNonNull(supplier, "supplier"));
+    }
+
+
+    private static final class Memoized<T> implements Supplier<T> {
+
+        private final RegistryGeneration registryGeneration;
+        private final Supplier<T> supplier;
+        private volatile Entry<T> entry;
+
+        private Memoized(final @NonNull RegistryGeneration registryGeneration, final @NonNull Supplier<T> supplier) {
+            this.registryGeneration = registryGeneration;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public T get() {
+            if (!this.registryGeneration.tracked()) {
+                return this.supplier.get();
+            }
+            final long generation = this.registryGeneration.current();
+            final Entry<T> entry = this.entry;
+            if (entry != null && entry.generation == generation) {
+                return entry.value;
+            }
+            // Concurrent callers may each compute a value for a new generation, which is harmless as any of them is valid
+            final T value = this.supplier.get();
+            this.entry = new Entry<>(generation, value);
+            return value;
+        }
+    }
+
+
+    private static final class Entry<T> {
+
+        private final long generation;
+        private final T value;
+
+        private Entry(final long generation, final T value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.key.CloudKey;
 import org.incendo.cloud.parser.ArgumentParseResult;
 import org.incendo.cloud.parser.ArgumentParser;
 import org.incendo.cloud.suggestion.Suggestion;
@@ -55,8 +56,31 @@ import static java.util.Objects.requireNonNull;
  */
 public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, SuggestionProvider<C> {
 
+    /**
+     * Key of the native Brigadier sender in the {@link CommandContext}.
+     *
+     * <p>The native sender is stored under this key when the command was dispatched or suggested by Brigadier. Otherwise,
+     * the platforms of cloud store a supplier of the native sender during preprocessing, and the sender is only stored
+     * under this key once it has been resolved through {@link NativeSenders#nativeSender(CommandContext)}. Reading the key
+     * directly may therefore fail in contexts in which it used to succeed before 2.0.0.</p>
+     *
+     * @deprecated use {@link NativeSenders#nativeSender(CommandContext)}, which resolves the native sender when needed
+     */
+    @Deprecated
     public static final String COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER = "_cloud_brigadier_native_sender";
 
+    /**
+     * Key used to store the {@link BrigadierParsedArguments arguments} that Brigadier has already parsed when
+     * dispatching a command. Parsers consult these values before parsing the input themselves.
+     *
+     * @since 2.0.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public static final CloudKey<BrigadierParsedArguments> COMMAND_CONTEXT_BRIGADIER_PARSED_ARGUMENTS = CloudKey.of(
+            "_cloud_brigadier_parsed_arguments",
+            BrigadierParsedArguments.class
+    );
+
     private final Supplier<ArgumentType<T>> nativeType;
     private final @Nullable ParseFunction<T> parse;
 
@@ -97,6 +121,30 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
         this.parse = parse;
     }
 
+    /**
+     * Create an {@link ArgumentParser argument parser} from a Brigadier {@link ArgumentType} that is memoized against
+     * the given {@code registryGeneration}.
+     *
+     * <p>The {@code argumentTypeSupplier} is invoked once, and again each time the registry generation is
+     * {@link RegistryGeneration#advance() advanced}, rather than for every parse and suggestion request. This should be used
+     * when the argument type is expensive to create, such as argument types that capture the registries of the server.
+     * As long as the registry generation is not {@link RegistryGeneration#track() tracked}, the supplier is invoked for
+     * every request.</p>
+     *
+     * @param argumentTypeSupplier  Brigadier argument type supplier
+     * @param parse                 special function to replace {@link ArgumentType#parse(StringReader)} (for CraftBukkit weirdness)
+     * @param registryGeneration    the registry generation that invalidates the memoized argument type
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public WrappedBrigadierParser(
+            final Supplier<ArgumentType<T>> argumentTypeSupplier,
+            final @Nullable ParseFunction<T> parse,
+            final @NonNull RegistryGeneration registryGeneration
+    ) {
+        this(registryGeneration.memoize(requireNonNull(argumentTypeSupplier, "brigadierType")), parse);
+    }
+
     /**
      * Returns the backing Brigadier {@link ArgumentType} for this parser.
      *
@@ -107,19 +155,45 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
         return this.nativeType.get();
     }
 
+    /**
+     * Returns whether the values that Brigadier parses using the given {@code argumentType} are the values that this parser
+     * would produce, which is the case when the argument type is equal to the {@link #nativeArgumentType() native argument
+     * type} and no {@link ParseFunction} replaces its parse method.
+     *
+     * @param argumentType the argument type of a Brigadier node
+     * @return whether values parsed by the argument type may be used in place of the values of this parser
+     * @since 2.0.0
+     */
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public final boolean producesValuesOf(final @NonNull ArgumentType<?> argumentType) {
+        return this.parse == null && argumentType.equals(this.nativeType.get());
+    }
+
     @Override
     public final @NonNull ArgumentParseResult<@NonNull T> parse(
             final @NonNull CommandContext<@NonNull C> commandContext,
             final @NonNull CommandInput commandInput
     ) {
+        // Reuse the value if Brigadier has already parsed this argument, unless the parse function would produce another value
+        final BrigadierParsedArguments parsedArguments =
+                commandContext.getOrDefault(COMMAND_CONTEXT_BRIGADIER_PARSED_ARGUMENTS, null);
+        if (parsedArguments != null && this.parse == null) {
+            final T parsed = parsedArguments.consume(commandInput, this);
+            if (parsed != null) {
+                return ArgumentParseResult.success(parsed);
+            }
+        }
+
+        final ArgumentType<T> argumentType = this.nativeType.get();
+
         // Convert to a brig reader
         final StringReader reader = CloudStringReader.of(commandInput);
 
         // Then try to parse
         try {
             final T result = this.parse != null
-                    ? this.parse.apply(this.nativeType.get(), reader)
-                    : this.nativeType.get().parse(reader);
+                    ? this.parse.apply(argumentType, reader)
+                    : argumentType.parse(reader);
             return ArgumentParseResult.success(result);
         } catch (final CommandSyntaxException ex) {
             return ArgumentParseResult.failure(ex);
@@ -137,7 +211,7 @@ public class WrappedBrigadierParser<C, T> implements ArgumentParser<C, T>, Sugge
          * is use it to query data on the native sender. Hopefully this hack holds up.
          */
         final com.mojang.brigadier.context.CommandContext<Object> reverseMappedContext = new com.mojang.brigadier.context.CommandContext<>(
-                commandContext.getOrDefault(COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, commandContext.sender()),
+                NativeSenders.nativeSenderOrDefault(commandContext, commandContext.sender()),
                 input.input(),
                 Collections.emptyMap(),
                 null,
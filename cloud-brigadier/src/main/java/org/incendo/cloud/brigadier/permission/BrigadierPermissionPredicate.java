@@ -23,7 +23,6 @@
 //
 package org.incendo.cloud.brigadier.permission;
 
-import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.Map;
@@ -32,6 +31,7 @@ import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.minecraft.util.SenderTypes;
 import org.incendo.cloud.permission.Permission;
 
 @API(status = API.Status.INTERNAL, since = "2.0.0")
@@ -61,12 +61,31 @@ public final class BrigadierPermissionPredicate<C, S> implements Predicate<S> {
 
     @Override
     public boolean test(final @NonNull S source) {
-        final C cloudSender = this.senderMapper.map(source);
-        final Map<Type, Permission> accessMap =
-            this.node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
+        return hasAccess(
+            this.permissionChecker,
+            this.senderMapper.map(source),
+            this.node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap())
+        );
+    }
+
+    /**
+     * Returns whether the given {@code cloudSender} has the permission for any of its sender types in the given
+     * {@code accessMap}.
+     *
+     * @param <C>               cloud sender type
+     * @param permissionChecker the permission checker
+     * @param cloudSender       the cloud sender
+     * @param accessMap         the permissions per sender type, see {@link CommandNode#META_KEY_ACCESS}
+     * @return {@code true} if the sender has access, else {@code false}
+     */
+    static <C> boolean hasAccess(
+        final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+        final @NonNull C cloudSender,
+        final @NonNull Map<Type, Permission> accessMap
+    ) {
         for (final Map.Entry<Type, Permission> entry : accessMap.entrySet()) {
-            if (GenericTypeReflector.isSuperType(entry.getKey(), cloudSender.getClass())) {
-                if (this.permissionChecker.hasPermission(cloudSender, entry.getValue())) {
+            if (SenderTypes.isSuperType(entry.getKey(), cloudSender.getClass())) {
+                if (permissionChecker.hasPermission(cloudSender, entry.getValue())) {
                     return true;
                 }
             }
@@ -0,0 +1,133 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.permission;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.permission.Permission;
+
+/**
+ * Shares the requirements of nodes with equal permissions, so that a tree holds one requirement per distinct set of
+ * permissions rather than one {@link BrigadierPermissionPredicate} per node.
+ *
+ * <p>Unlike {@link BrigadierPermissionPredicate}, which looks up the permissions of its node whenever it is tested, the
+ * shared requirements evaluate the permissions that the nodes had when the requirement was requested. The
+ * permissions of a cloud node only change when commands are added below it or removed from it, which changes its
+ * children, so a Brigadier tree that is rebuilt after the cloud tree has changed holds requirements for the current
+ * permissions.</p>
+ *
+ * @param <C> cloud sender type
+ * @param <S> brigadier source type
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.0.0")
+public final class PermissionPredicateInterner<C, S> {
+
+    private final Map<SharedRequirement<C, S>, SharedRequirement<C, S>> requirements = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the shared requirement for the permissions that are currently attached to the given {@code node}.
+     *
+     * @param senderMapper      mapper from brig source to cloud sender
+     * @param permissionChecker the permission checker
+     * @param node              the cloud command node
+     * @return the shared requirement
+     */
+    public @NonNull Predicate<S> requirement(
+            final @NonNull SenderMapper<S, C> senderMapper,
+            final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+            final @NonNull CommandNode<?> node
+    ) {
+        final Map<Type, Permission> access = node.nodeMeta().getOrDefault(CommandNode.META_KEY_ACCESS, Collections.emptyMap());
+        final SharedRequirement<C, S> requirement =
+                new SharedRequirement<>(senderMapper, permissionChecker, Collections.unmodifiableMap(new HashMap<>(access)));
+        return this.requirements.computeIfAbsent(requirement, key -> key);
+    }
+
+    /**
+     * Discards the shared requirements, so that requirements that are requested later are not shared with nodes that
+     * have been built before.
+     */
+    public void clear() {
+        this.requirements.clear();
+    }
+
+
+    /**
+     * A requirement that is identified by its inputs, so that it serves as its own key.
+     */
+    private static final class SharedRequirement<C, S> implements Predicate<S> {
+
+        private final SenderMapper<S, C> senderMapper;
+        private final BrigadierPermissionChecker<C> permissionChecker;
+        private final Map<Type, Permission> access;
+
+        private SharedRequirement(
+                final @NonNull SenderMapper<S, C> senderMapper,
+                final @NonNull BrigadierPermissionChecker<C> permissionChecker,
+                final @NonNull Map<Type, Permission> access
+        ) {
+            this.senderMapper = senderMapper;
+            this.permissionChecker = permissionChecker;
+            this.access = access;
+        }
+
+        @Override
+        public boolean test(final @NonNull S source) {
+            return BrigadierPermissionPredicate.hasAccess(this.permissionChecker, this.senderMapper.map(source), this.access);
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || this.getClass() != object.getClass()) {
+                return false;
+            }
+            final SharedRequirement<?, ?> that = (SharedRequirement<?, ?>) object;
+            return this.senderMapper == that.senderMapper
+                    && this.permissionChecker == that.permissionChecker
+                    && this.access.equals(that.access);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(
+                    System.identityHashCode(this.senderMapper),
+                    System.identityHashCode(this.permissionChecker),
+                    this.access
+            );
+        }
+    }
+}
@@ -23,26 +23,40 @@
 //
 package org.incendo.cloud.brigadier.suggestion;
 
+import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import io.leangen.geantyref.GenericTypeReflector;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.brigadier.CloudBrigadierCommand;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.util.Integers;
+import org.incendo.cloud.brigadier.util.ParsedNodes;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.internal.SuggestionContext;
+import org.incendo.cloud.minecraft.suggestion.CachingSuggestionFactory;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.MappedArgumentParser;
+import org.incendo.cloud.parser.aggregate.AggregateParser;
+import org.incendo.cloud.parser.flag.CommandFlagParser;
+import org.incendo.cloud.services.State;
 import org.incendo.cloud.suggestion.SuggestionFactory;
 
-import static org.incendo.cloud.brigadier.CloudBrigadierCommand.parsedNodes;
-
 /**
  * Produces Brigadier suggestions by invoking the Cloud suggestion provider.
  *
@@ -55,7 +69,9 @@ public final class BrigadierSuggestionFactory<C, S> {
 
     private final CloudBrigadierManager<C, S> cloudBrigadierManager;
     private final CommandManager<C> commandManager;
-    private final SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory;
+    private final SuggestionFactory<C, ? extends TooltipSuggestion> uncachedSuggestionFactory;
+    private final SuggestionRequestTracker<C> requestTracker = new SuggestionRequestTracker<>();
+    private volatile SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory;
 
     /**
      * Creates a new suggestion factory.
@@ -71,12 +87,31 @@ public final class BrigadierSuggestionFactory<C, S> {
     ) {
         this.cloudBrigadierManager = cloudBrigadierManager;
         this.commandManager = commandManager;
+        this.uncachedSuggestionFactory = suggestionFactory;
         this.suggestionFactory = suggestionFactory;
     }
 
+    /**
+     * Makes this factory cache the cloud suggestions per sender, using a {@link CachingSuggestionFactory}.
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param expireAfter how long a result may be used after it has been computed
+     */
+    public void cacheSuggestions(final int maximumSize, final @NonNull Duration expireAfter) {
+        this.suggestionFactory = CachingSuggestionFactory.of(
+                this.commandManager,
+                this.uncachedSuggestionFactory,
+                maximumSize,
+                expireAfter
+        );
+    }
+
     /**
      * Builds suggestions for the given component.
      *
+     * <p>If {@link BrigadierSetting#CANCEL_SUPERSEDED_SUGGESTIONS} is enabled, the returned future is cancelled when a
+     * request for different input arrives from the same sender before it completes.</p>
+     *
      * @param senderContext the brigadier context
      * @param parentNode    the parent command node
      * @param builder       the suggestion builder to generate suggestions with
@@ -87,49 +122,222 @@ public final class BrigadierSuggestionFactory<C, S> {
             final org.incendo.cloud.internal.@Nullable CommandNode<C> parentNode,
             final @NonNull SuggestionsBuilder builder
     ) {
+        final CommandContext<C> commandContext = this.commandContext(senderContext);
+        final String command = this.cloudInput(senderContext);
+
+        final SuggestionRequest request = this.request(commandContext, builder);
+        return this.track(commandContext, request, this.suggestionFactory.suggest(commandContext, command))
+                .thenApply(suggestionsResult -> this.brigadierSuggestions(suggestionsResult, parentNode, builder));
+    }
+
+    /**
+     * Builds suggestions for the given {@code node}.
+     *
+     * <p>If {@link BrigadierSetting#ANCHORED_SUGGESTIONS} is enabled, the suggestions are resolved directly from the
+     * {@code node} using the argument values that Brigadier has already parsed, rather than by parsing the entire input
+     * from the root of the command tree. If the node cannot be anchored, this behaves like {@link #buildSuggestions}
+     * using the parent of the {@code node}.</p>
+     *
+     * @param senderContext the brigadier context
+     * @param node          the command node to generate suggestions for
+     * @param builder       the suggestion builder to generate suggestions with
+     * @return future that completes with the suggestions
+     */
+    public @NonNull CompletableFuture<@NonNull Suggestions> buildAnchoredSuggestions(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> senderContext,
+            final org.incendo.cloud.internal.@NonNull CommandNode<C> node,
+            final @NonNull SuggestionsBuilder builder
+    ) {
+        if (this.cloudBrigadierManager.settings().get(BrigadierSetting.ANCHORED_SUGGESTIONS)) {
+            final CompletableFuture<org.incendo.cloud.suggestion.Suggestions<C, TooltipSuggestion>> anchoredSuggestions =
+                    this.anchoredSuggestions(senderContext, node, builder);
+            if (anchoredSuggestions != null) {
+                return anchoredSuggestions.thenApply(suggestionsResult ->
+                        this.brigadierSuggestions(suggestionsResult, node.parent(), builder));
+            }
+        }
+        return this.buildSuggestions(senderContext, node.parent(), builder);
+    }
+
+    /**
+     * Resolves the suggestions of the component of the given {@code node} without parsing the preceding input, which is
+     * only possible when the preceding arguments have been parsed by Brigadier into values of the types that cloud expects,
+     * and when the suggestions are for a single token.
+     *
+     * @param senderContext the brigadier context
+     * @param node          the command node to generate suggestions for
+     * @param builder       the suggestion builder to generate suggestions with
+     * @return future that completes with the suggestions, or {@code null} if the node cannot be anchored
+     */
+    private @Nullable CompletableFuture<org.incendo.cloud.suggestion.Suggestions<C, TooltipSuggestion>> anchoredSuggestions(
+            final com.mojang.brigadier.context.@NonNull CommandContext<S> senderContext,
+            final org.incendo.cloud.internal.@NonNull CommandNode<C> node,
+            final @NonNull SuggestionsBuilder builder
+    ) {
+        final CommandComponent<C> component = node.component();
+        if (component == null || !isAnchorable(component) || builder.getRemaining().indexOf(' ') != -1) {
+            return null;
+        }
+
+        final String command = this.cloudInput(senderContext);
+        final int start = builder.getStart() - (builder.getInput().length() - command.length());
+        if (start < 0) {
+            return null;
+        }
+
+        final CommandContext<C> commandContext = this.commandContext(senderContext);
+
+        /* Populate the context with the values that Brigadier has already parsed */
+        final com.mojang.brigadier.context.CommandContext<S> lastChild = senderContext.getLastChild();
+        final Map<String, ArgumentType<?>> parsedTypes = new HashMap<>();
+        ParsedNodes.forEach(lastChild, (parsedNode, range) -> {
+            if (parsedNode instanceof ArgumentCommandNode) {
+                parsedTypes.put(parsedNode.getName(), ((ArgumentCommandNode<S, ?>) parsedNode).getType());
+            }
+        });
+        for (org.incendo.cloud.internal.CommandNode<C> parent = node.parent(); parent != null; parent = parent.parent()) {
+            final CommandComponent<C> parentComponent = parent.component();
+            if (parentComponent == null || parentComponent.type() == CommandComponent.ComponentType.LITERAL) {
+                continue;
+            }
+            if (!isAnchorable(parentComponent) || !isParsedByBrigadier(parentComponent, parsedTypes.get(parentComponent.name()))) {
+                return null;
+            }
+            final Object value;
+            try {
+                value = lastChild.getArgument(parentComponent.name(), Object.class);
+            } catch (final IllegalArgumentException ignored) {
+                return null;
+            }
+            if (!GenericTypeReflector.erase(parentComponent.valueType().getType()).isInstance(value)) {
+                return null;
+            }
+            commandContext.store(parentComponent.name(), value);
+        }
+
+        final CommandInput commandInput = CommandInput.of(command).cursor(start);
+        final SuggestionRequest request = this.request(commandContext, builder);
+        if (this.commandManager.preprocessContext(commandContext, commandInput.copy()) == State.REJECTED) {
+            return this.track(commandContext, request, CompletableFuture.completedFuture(org.incendo.cloud.suggestion.Suggestions.create(
+                    commandContext,
+                    Collections.emptyList(),
+                    commandInput
+            )));
+        }
+
+        final SuggestionContext<C, TooltipSuggestion> suggestionContext = new SuggestionContext<>(
+                this.commandManager.suggestionProcessor(),
+                commandContext,
+                commandInput,
+                TooltipSuggestion::tooltipSuggestion
+        );
+        return this.track(commandContext, request, component.suggestionProvider()
+                .suggestionsFuture(commandContext, commandInput.copy())
+                .thenApply(suggestions -> {
+                    suggestionContext.addSuggestions(suggestions);
+                    return suggestionContext.makeSuggestions();
+                }));
+    }
+
+    private @NonNull CommandContext<C> commandContext(final com.mojang.brigadier.context.@NonNull CommandContext<S> senderContext) {
         final C cloudSender = this.cloudBrigadierManager.senderMapper().map(senderContext.getSource());
         final CommandContext<C> commandContext = new CommandContext<>(
             true,
             cloudSender,
             this.commandManager
         );
-        commandContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, senderContext.getSource());
-        String command = builder.getInput()
-            .substring(parsedNodes(senderContext.getLastChild()).get(0).second().getStart());
+        NativeSenders.store(commandContext, senderContext.getSource());
+        return commandContext;
+    }
+
+    private @Nullable SuggestionRequest request(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull SuggestionsBuilder builder
+    ) {
+        if (!this.cloudBrigadierManager.settings().get(BrigadierSetting.CANCEL_SUPERSEDED_SUGGESTIONS)) {
+            return null;
+        }
+        final SuggestionRequest request = this.requestTracker.request(commandContext.sender(), builder.getInput());
+        commandContext.store(SuggestionRequest.SUGGESTION_REQUEST, request);
+        return request;
+    }
+
+    private <T> @NonNull CompletableFuture<T> track(
+            final @NonNull CommandContext<C> commandContext,
+            final @Nullable SuggestionRequest request,
+            final @NonNull CompletableFuture<T> future
+    ) {
+        if (request == null) {
+            return future;
+        }
+        return this.requestTracker.track(commandContext.sender(), request, future);
+    }
+
+    private static boolean isAnchorable(final @NonNull CommandComponent<?> component) {
+        final ArgumentParser<?, ?> parser = component.parser();
+        return component.preprocessors().isEmpty()
+                && !(parser instanceof AggregateParser)
+                && !(parser instanceof CommandFlagParser)
+                && !(parser instanceof MappedArgumentParser);
+    }
+
+    /**
+     * Returns whether the value that Brigadier parsed for the given {@code component} using the given {@code parsedType} is
+     * the value that the parser of the component would produce. Only {@link WrappedBrigadierParser}s that wrap the same
+     * argument type qualify, as other parsers may accept different input than the argument type that they are mapped to.
+     *
+     * @param component  the component of a parent node
+     * @param parsedType the argument type of the Brigadier node that was parsed for the component, or {@code null}
+     * @return whether the parsed value may be reused
+     */
+    private static boolean isParsedByBrigadier(
+            final @NonNull CommandComponent<?> component,
+            final @Nullable ArgumentType<?> parsedType
+    ) {
+        return parsedType != null
+                && component.parser() instanceof WrappedBrigadierParser
+                && ((WrappedBrigadierParser<?, ?>) component.parser()).producesValuesOf(parsedType);
+    }
+
+    private @NonNull String cloudInput(final com.mojang.brigadier.context.@NonNull CommandContext<S> senderContext) {
+        String command = CloudBrigadierCommand.commandInput(senderContext);
 
         /* Remove namespace */
         final String leading = command.split(" ")[0];
         if (leading.contains(":")) {
             command = command.substring(leading.split(":")[0].length() + 1);
         }
+        return command;
+    }
 
-        return this.suggestionFactory.suggest(commandContext.sender(), command).thenApply(suggestionsResult -> {
-            /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
-            final List<TooltipSuggestion> suggestions = new ArrayList<>(suggestionsResult.list());
-            if (parentNode != null) {
-                final Set<String> siblingLiterals = parentNode.children().stream()
-                        .map(org.incendo.cloud.internal.CommandNode::component)
-                        .filter(Objects::nonNull)
-                        .filter(c -> c.type() == CommandComponent.ComponentType.LITERAL)
-                        .flatMap(commandComponent -> commandComponent.aliases().stream())
-                        .collect(Collectors.toSet());
-
-                suggestions.removeIf(suggestion -> siblingLiterals.contains(suggestion.suggestion()));
-            }
+    private @NonNull Suggestions brigadierSuggestions(
+            final org.incendo.cloud.suggestion.@NonNull Suggestions<C, ? extends TooltipSuggestion> suggestionsResult,
+            final org.incendo.cloud.internal.@Nullable CommandNode<C> parentNode,
+            final @NonNull SuggestionsBuilder builder
+    ) {
+        /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
+        final Set<String> siblingLiterals = parentNode == null ? Collections.emptySet() : SiblingLiterals.of(parentNode);
 
-            final int trimmed = builder.getInput().length() - suggestionsResult.commandInput().length();
-            final int rawOffset = suggestionsResult.commandInput().cursor();
-            final SuggestionsBuilder suggestionsBuilder = builder.createOffset(rawOffset + trimmed);
+        final int trimmed = builder.getInput().length() - suggestionsResult.commandInput().length();
+        final int rawOffset = suggestionsResult.commandInput().cursor();
+        final SuggestionsBuilder suggestionsBuilder = builder.createOffset(rawOffset + trimmed);
 
-            for (final TooltipSuggestion suggestion : suggestions) {
-                try {
-                    suggestionsBuilder.suggest(Integer.parseInt(suggestion.suggestion()), suggestion.tooltip());
-                } catch (final NumberFormatException e) {
-                    suggestionsBuilder.suggest(suggestion.suggestion(), suggestion.tooltip());
-                }
+        for (final TooltipSuggestion suggestion : suggestionsResult.list()) {
+            if (siblingLiterals.contains(suggestion.suggestion())) {
+                continue;
             }
+            if (suggestion instanceof IntegerTooltipSuggestion) {
+                suggestionsBuilder.suggest(((IntegerTooltipSuggestion) suggestion).value(), suggestion.tooltip());
+                continue;
+            }
+            final long value = Integers.parseInteger(suggestion.suggestion());
+            if (value != Integers.NOT_AN_INTEGER) {
+                suggestionsBuilder.suggest((int) value, suggestion.tooltip());
+            } else {
+                suggestionsBuilder.suggest(suggestion.suggestion(), suggestion.tooltip());
+            }
+        }
 
-            return suggestionsBuilder.build();
-        });
+        return suggestionsBuilder.build();
     }
 }
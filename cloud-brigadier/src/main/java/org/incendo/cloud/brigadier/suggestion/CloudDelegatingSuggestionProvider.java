@@ -65,9 +65,9 @@ public final class CloudDelegatingSuggestionProvider<C, S> implements Suggestion
             final @NonNull CommandContext<S> context,
             final @NonNull SuggestionsBuilder builder
     ) throws CommandSyntaxException {
-        return this.brigadierSuggestionFactory.buildSuggestions(
+        return this.brigadierSuggestionFactory.buildAnchoredSuggestions(
                 context,
-                this.node.parent(),
+                this.node,
                 builder
         );
     }
@@ -0,0 +1,125 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import com.mojang.brigadier.Message;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link TooltipSuggestion} that carries its integer value, so that it is passed to Brigadier as an integer suggestion
+ * without parsing the suggestion string.
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class IntegerTooltipSuggestion implements TooltipSuggestion {
+
+    private final int value;
+    private final String suggestion;
+    private final Message tooltip;
+
+    private IntegerTooltipSuggestion(final int value, final @Nullable Message tooltip) {
+        this.value = value;
+        this.suggestion = Integer.toString(value);
+        this.tooltip = tooltip;
+    }
+
+    /**
+     * Returns a new {@link IntegerTooltipSuggestion} with the given {@code value} and {@code tooltip}.
+     *
+     * @param value   the integer value
+     * @param tooltip the optional tooltip that is displayed when hovering over the suggestion
+     * @return the suggestion instance
+     */
+    public static @NonNull IntegerTooltipSuggestion suggestion(final int value, final @Nullable Message tooltip) {
+        return new IntegerTooltipSuggestion(value, tooltip);
+    }
+
+    /**
+     * Returns a new {@link IntegerTooltipSuggestion} with the given {@code value} and a {@code null} tooltip.
+     *
+     * @param value the integer value
+     * @return the suggestion instance
+     */
+    public static @NonNull IntegerTooltipSuggestion suggestion(final int value) {
+        return new IntegerTooltipSuggestion(value, null /* tooltip */);
+    }
+
+    /**
+     * Returns the integer value.
+     *
+     * @return the value
+     */
+    public int value() {
+        return this.value;
+    }
+
+    @Override
+    public @NonNull String suggestion() {
+        return this.suggestion;
+    }
+
+    @Override
+    public @Nullable Message tooltip() {
+        return this.tooltip;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned suggestion no longer carries the integer value, unless the {@code suggestion} is unchanged.</p>
+     */
+    @Override
+    public @NonNull TooltipSuggestion withSuggestion(final @NonNull String suggestion) {
+        if (this.suggestion.equals(suggestion)) {
+            return this;
+        }
+        return TooltipSuggestion.suggestion(suggestion, this.tooltip);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (object == null || this.getClass() != object.getClass()) {
+            return false;
+        }
+        final IntegerTooltipSuggestion that = (IntegerTooltipSuggestion) object;
+        return this.value == that.value && Objects.equals(this.tooltip, that.tooltip);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.value, this.tooltip);
+    }
+
+    @Override
+    public String toString() {
+        return "IntegerTooltipSuggestion{value=" + this.value + ", tooltip=" + this.tooltip + "}";
+    }
+}
@@ -0,0 +1,139 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.component.CommandComponent;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * The aliases of the literal children of a cloud {@link CommandNode}, which are removed from the suggestions for the
+ * variable children of the node as Brigadier suggests the literals itself.
+ *
+ * <p>The aliases are computed when the Brigadier tree is built and cached in the {@link CommandNode#nodeMeta() node meta},
+ * together with the children that they were computed from. The holder of the cached aliases is stored in the node meta
+ * only the first time the tree is built with the node, and later builds and requests replace the aliases inside the
+ * holder when the children of the node have changed. The cached aliases are immutable and published through a volatile
+ * field, so they may be read and replaced while suggestions are requested concurrently.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.0.0")
+public final class SiblingLiterals {
+
+    private static final CloudKey<Holder> META_KEY = CloudKey.of(
+            "_cloud_brigadier_sibling_literals",
+            Holder.class
+    );
+
+    private final CommandNode<?>[] children;
+    private final Set<String> literals;
+
+    private SiblingLiterals(final @NonNull CommandNode<?>[] children, final @NonNull Set<String> literals) {
+        this.children = children;
+        this.literals = literals;
+    }
+
+    /**
+     * Returns the aliases of the literal children of the given {@code node}.
+     *
+     * @param node the parent node
+     * @return the aliases
+     */
+    public static @NonNull Set<String> of(final @NonNull CommandNode<?> node) {
+        final Holder holder = node.nodeMeta().getOrDefault(META_KEY, null);
+        if (holder == null) {
+            return compute(node).literals;
+        }
+        final SiblingLiterals cached = holder.current;
+        if (cached.matches(node.children())) {
+            return cached.literals;
+        }
+        final SiblingLiterals computed = compute(node);
+        holder.current = computed;
+        return computed.literals;
+    }
+
+    /**
+     * Computes the aliases of the literal children of the given {@code node} and stores them in the meta of the node.
+     *
+     * <p>This should be invoked when the Brigadier tree is built, as the node meta is not safe to modify while the
+     * tree is used concurrently. The node meta is only modified the first time this is invoked for the node, after that
+     * the cached aliases are replaced in place if the children of the node have changed.</p>
+     *
+     * @param node the parent node
+     */
+    public static void update(final @NonNull CommandNode<?> node) {
+        final Holder holder = node.nodeMeta().getOrDefault(META_KEY, null);
+        if (holder == null) {
+            node.nodeMeta().store(META_KEY, new Holder(compute(node)));
+        } else if (!holder.current.matches(node.children())) {
+            holder.current = compute(node);
+        }
+    }
+
+    private boolean matches(final @NonNull List<? extends CommandNode<?>> children) {
+        if (children.size() != this.children.length) {
+            return false;
+        }
+        for (int i = 0; i < this.children.length; i++) {
+            if (children.get(i) != this.children[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static @NonNull SiblingLiterals compute(final @NonNull CommandNode<?> node) {
+        final CommandNode<?>[] children = node.children().toArray(new CommandNode<?>[0]);
+        Set<String> literals = null;
+        for (final CommandNode<?> child : children) {
+            final CommandComponent<?> component = child.component();
+            if (component == null || component.type() != CommandComponent.ComponentType.LITERAL) {
+                continue;
+            }
+            if (literals == null) {
+                literals = new HashSet<>();
+            }
+            literals.addAll(component.aliases());
+        }
+        return new SiblingLiterals(children, literals == null ? Collections.emptySet() : Collections.unmodifiableSet(literals));
+    }
+
+
+    private static final class Holder {
+
+        private volatile SiblingLiterals current;
+
+        private Holder(final @NonNull SiblingLiterals current) {
+            this.current = current;
+        }
+    }
+}
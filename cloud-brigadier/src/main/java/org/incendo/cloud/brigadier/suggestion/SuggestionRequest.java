@@ -0,0 +1,122 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.key.CloudKey;
+
+/**
+ * A request for suggestions that was made through Brigadier, which is cancelled when a newer request for different input
+ * arrives from the same sender.
+ *
+ * <p>Requests are only tracked when {@link org.incendo.cloud.brigadier.BrigadierSetting#CANCEL_SUPERSEDED_SUGGESTIONS} is
+ * enabled. Expensive suggestion providers may use {@link #cancelled(CommandContext)} to stop working on suggestions that
+ * are no longer needed.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class SuggestionRequest {
+
+    /**
+     * Key used to store the request in the {@link CommandContext} that suggestions are resolved with.
+     */
+    public static final CloudKey<SuggestionRequest> SUGGESTION_REQUEST = CloudKey.of(
+            "_cloud_brigadier_suggestion_request",
+            SuggestionRequest.class
+    );
+
+    private final String input;
+    private final Set<CompletableFuture<?>> futures = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger references = new AtomicInteger(1);
+    private volatile boolean cancelled = false;
+
+    SuggestionRequest(final @NonNull String input) {
+        this.input = input;
+    }
+
+    /**
+     * Returns whether the request that the suggestions in the given {@code context} are resolved for has been cancelled.
+     *
+     * @param context the command context
+     * @return {@code true} if the request has been cancelled, {@code false} if it has not or if requests are not tracked
+     */
+    public static boolean cancelled(final @NonNull CommandContext<?> context) {
+        final @Nullable SuggestionRequest request = context.getOrDefault(SUGGESTION_REQUEST, null);
+        return request != null && request.cancelled();
+    }
+
+    /**
+     * Returns the full input that suggestions were requested for.
+     *
+     * @return the input
+     */
+    public @NonNull String input() {
+        return this.input;
+    }
+
+    /**
+     * Returns whether the request has been cancelled because a newer request from the same sender has arrived.
+     *
+     * @return {@code true} if the request has been cancelled
+     */
+    public boolean cancelled() {
+        return this.cancelled;
+    }
+
+    void retain() {
+        this.references.incrementAndGet();
+    }
+
+    boolean release() {
+        return this.references.decrementAndGet() == 0;
+    }
+
+    void track(final @NonNull CompletableFuture<?> future) {
+        this.futures.add(future);
+        if (this.cancelled) {
+            future.cancel(false /* mayInterruptIfRunning */);
+        }
+    }
+
+    void untrack(final @NonNull CompletableFuture<?> future) {
+        this.futures.remove(future);
+    }
+
+    int inFlight() {
+        return this.futures.size();
+    }
+
+    void cancel() {
+        this.cancelled = true;
+        this.futures.forEach(future -> future.cancel(false /* mayInterruptIfRunning */));
+    }
+}
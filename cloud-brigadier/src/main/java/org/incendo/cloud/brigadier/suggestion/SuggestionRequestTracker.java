@@ -0,0 +1,102 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracks the {@link SuggestionRequest suggestion requests} that are in flight for each sender.
+ *
+ * @param <C> command sender type
+ */
+final class SuggestionRequestTracker<C> {
+
+    private final Map<C, SuggestionRequest> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the request for the given {@code input}, cancelling the previous request from the {@code sender} if it was
+     * for different input. Brigadier requests suggestions from each candidate node separately, so requests for the same
+     * input share a single {@link SuggestionRequest}.
+     *
+     * @param sender the sender
+     * @param input  the full input
+     * @return the request
+     */
+    @NonNull SuggestionRequest request(final @NonNull C sender, final @NonNull String input) {
+        final SuggestionRequest[] superseded = new SuggestionRequest[1];
+        final SuggestionRequest request = this.requests.compute(sender, (key, previous) -> {
+            if (previous != null && !previous.cancelled() && previous.input().equals(input)) {
+                previous.retain();
+                return previous;
+            }
+            superseded[0] = previous;
+            return new SuggestionRequest(input);
+        });
+        final @Nullable SuggestionRequest previous = superseded[0];
+        if (previous != null) {
+            previous.cancel();
+        }
+        return request;
+    }
+
+    /**
+     * Returns a future that completes with the result of the given {@code future}, unless the {@code request} is cancelled
+     * first. Cancelling the returned future also cancels the given {@code future}.
+     *
+     * @param <T>     result type
+     * @param sender  the sender
+     * @param request the request
+     * @param future  the future
+     * @return the tracked future
+     */
+    <T> @NonNull CompletableFuture<T> track(
+            final @NonNull C sender,
+            final @NonNull SuggestionRequest request,
+            final @NonNull CompletableFuture<T> future
+    ) {
+        final CompletableFuture<T> tracked = new CompletableFuture<>();
+        tracked.whenComplete((result, throwable) -> {
+            request.untrack(tracked);
+            if (tracked.isCancelled()) {
+                future.cancel(false /* mayInterruptIfRunning */);
+            }
+        });
+        request.track(tracked);
+        future.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                tracked.completeExceptionally(throwable);
+            } else {
+                tracked.complete(result);
+            }
+            if (request.release()) {
+                this.requests.remove(sender, request);
+            }
+        });
+        return tracked;
+    }
+}
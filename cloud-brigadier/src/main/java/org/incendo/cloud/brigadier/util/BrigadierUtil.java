@@ -69,4 +69,32 @@ public final class BrigadierUtil {
         }
         return builder.build();
     }
+
+    /**
+     * Returns a literal node without children that redirects to the given destination node.
+     *
+     * <p>Unlike {@link #buildRedirect(String, CommandNode)}, the children of the destination are not added to the
+     * returned node, so they are only sent once to clients. The node executes the command of the destination when it is
+     * invoked without arguments, which works around <a href="https://github.com/Mojang/brigadier/issues/46">Brigadier
+     * issue #46</a>.</p>
+     *
+     * <p>The destination has to be part of the same dispatcher as the returned node.</p>
+     *
+     * @param alias       the command alias
+     * @param destination the destination node
+     * @param <S>         brig sender type
+     * @return the built node
+     * @since 2.0.0
+     */
+    public static <S> @NonNull LiteralCommandNode<S> buildAliasRedirect(
+            final @NonNull String alias,
+            final @NonNull CommandNode<S> destination
+    ) {
+        return LiteralArgumentBuilder
+                .<S>literal(alias)
+                .requires(destination.getRequirement())
+                .executes(destination.getCommand())
+                .redirect(destination)
+                .build();
+    }
 }
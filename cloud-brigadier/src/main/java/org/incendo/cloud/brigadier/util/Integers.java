@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Utilities for recognizing integers without relying on {@link NumberFormatException}.
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.0.0")
+public final class Integers {
+
+    /**
+     * The value returned by {@link #parseInteger(String)} when the string is not an integer. It lies outside the range
+     * of {@code int}, so it can not be mistaken for a parsed value.
+     */
+    public static final long NOT_AN_INTEGER = Long.MIN_VALUE;
+
+    private Integers() {
+    }
+
+    /**
+     * Returns whether {@link Integer#parseInt(String)} would succeed for the given {@code string}, without
+     * throwing an exception when it would not.
+     *
+     * @param string the string to check
+     * @return {@code true} if the string is a decimal integer within the range of {@code int}, else {@code false}
+     */
+    public static boolean isInteger(final @NonNull String string) {
+        return parseInteger(string) != NOT_AN_INTEGER;
+    }
+
+    /**
+     * Parses the given {@code string} like {@link Integer#parseInt(String)}, without throwing an exception when it is
+     * not an integer. The string is only scanned once, unlike checking it with {@link #isInteger(String)} before parsing it.
+     *
+     * @param string the string to parse
+     * @return the parsed value, or {@link #NOT_AN_INTEGER} if the string is not a decimal integer within the range of
+     *     {@code int}
+     */
+    public static long parseInteger(final @NonNull String string) {
+        final int length = string.length();
+        if (length == 0) {
+            return NOT_AN_INTEGER;
+        }
+
+        int index = 0;
+        boolean negative = false;
+        final char first = string.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return NOT_AN_INTEGER;
+            }
+            negative = first == '-';
+            index = 1;
+        }
+
+        final long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; index < length; index++) {
+            final int digit = Character.digit(string.charAt(index), 10);
+            if (digit < 0) {
+                return NOT_AN_INTEGER;
+            }
+            value = value * 10 + digit;
+            if (value > limit) {
+                return NOT_AN_INTEGER;
+            }
+        }
+        return negative ? -value : value;
+    }
+}
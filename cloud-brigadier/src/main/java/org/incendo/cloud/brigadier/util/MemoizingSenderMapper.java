@@ -0,0 +1,120 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.SenderMapper;
+
+/**
+ * {@link SenderMapper} that remembers the last source that it has mapped on each thread, so that a source is mapped once
+ * per dispatch or traversal of the command tree rather than once per node.
+ *
+ * <p>Sources are compared by identity. The memo of a thread is replaced when a different source is mapped, or when it
+ * is older than {@value #SCOPE_MILLIS} milliseconds, which bounds how long a changed mapping may be returned. Both the
+ * source and the sender are weakly referenced, so the memo never keeps them alive.</p>
+ *
+ * <p>Reverse mappings are not memoized.</p>
+ *
+ * @param <S> brigadier source type
+ * @param <C> cloud sender type
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class MemoizingSenderMapper<S, C> implements SenderMapper<S, C> {
+
+    static final long SCOPE_MILLIS = 50L;
+
+    private final ThreadLocal<Memo<S, C>> memo = new ThreadLocal<>();
+    private final SenderMapper<S, C> delegate;
+    private final LongSupplier ticker;
+    private final long scopeNanos;
+
+    MemoizingSenderMapper(final @NonNull SenderMapper<S, C> delegate, final @NonNull LongSupplier ticker) {
+        this.delegate = delegate;
+        this.ticker = ticker;
+        this.scopeNanos = TimeUnit.MILLISECONDS.toNanos(SCOPE_MILLIS);
+    }
+
+    /**
+     * Returns a mapper that memoizes the mappings of the given {@code delegate}.
+     *
+     * @param <S>      brigadier source type
+     * @param <C>      cloud sender type
+     * @param delegate the mapper to memoize
+     * @return the memoizing mapper
+     */
+    public static <S, C> @NonNull MemoizingSenderMapper<S, C> of(final @NonNull SenderMapper<S, C> delegate) {
+        if (delegate instanceof MemoizingSenderMapper) {
+            return (MemoizingSenderMapper<S, C>) delegate;
+        }
+        return new MemoizingSenderMapper<>(delegate, System::nanoTime);
+    }
+
+    /**
+     * Returns the mapper that the mappings are delegated to.
+     *
+     * @return the delegate
+     */
+    public @NonNull SenderMapper<S, C> delegate() {
+        return this.delegate;
+    }
+
+    @Override
+    public @NonNull C map(final @NonNull S source) {
+        final long now = this.ticker.getAsLong();
+        final Memo<S, C> current = this.memo.get();
+        if (current != null && current.get() == source && now - current.createdAt < this.scopeNanos) {
+            final C sender = current.sender.get();
+            if (sender != null) {
+                return sender;
+            }
+        }
+        final C sender = this.delegate.map(source);
+        this.memo.set(new Memo<>(source, sender, now));
+        return sender;
+    }
+
+    @Override
+    public @NonNull S reverse(final @NonNull C sender) {
+        return this.delegate.reverse(sender);
+    }
+
+
+    private static final class Memo<S, C> extends WeakReference<S> {
+
+        private final WeakReference<C> sender;
+        private final long createdAt;
+
+        private Memo(final @NonNull S source, final @Nullable C sender, final long createdAt) {
+            super(source);
+            this.sender = new WeakReference<>(sender);
+            this.createdAt = createdAt;
+        }
+    }
+}
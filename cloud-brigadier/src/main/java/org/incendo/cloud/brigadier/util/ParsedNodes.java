@@ -0,0 +1,136 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.context.ParsedCommandNode;
+import com.mojang.brigadier.context.StringRange;
+import com.mojang.brigadier.tree.CommandNode;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Accessor for the nodes that have been parsed in a Brigadier {@link CommandContext}.
+ *
+ * <p>The return type of {@code CommandContext#getNodes()} changed from a map to a list of {@link ParsedCommandNode}s
+ * between Brigadier versions. The method is resolved once, and the nodes are visited without copying them.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.0.0")
+public final class ParsedNodes {
+
+    private static final MethodHandle GET_NODES;
+    private static final boolean NODE_LIST;
+
+    static {
+        final Method getNodes;
+        try {
+            getNodes = CommandContext.class.getMethod("getNodes");
+            GET_NODES = MethodHandles.publicLookup()
+                    .unreflect(getNodes)
+                    .asType(MethodType.methodType(Object.class, CommandContext.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        NODE_LIST = List.class.isAssignableFrom(getNodes.getReturnType());
+    }
+
+    private ParsedNodes() {
+    }
+
+    /**
+     * Invokes the {@code visitor} for each node that has been parsed in the given {@code context}, in the order in which
+     * the nodes were parsed.
+     *
+     * @param <S>     brigadier command source type
+     * @param context the command context
+     * @param visitor the visitor
+     */
+    @SuppressWarnings("unchecked")
+    public static <S> void forEach(final @NonNull CommandContext<S> context, final @NonNull Visitor<S> visitor) {
+        final Object nodes = nodes(context);
+        if (NODE_LIST) {
+            final List<?> list = (List<?>) nodes;
+            for (int i = 0; i < list.size(); i++) {
+                ParsedCommandNodeHandler.visit(list.get(i), visitor);
+            }
+        } else {
+            for (final Map.Entry<CommandNode<S>, StringRange> entry : ((Map<CommandNode<S>, StringRange>) nodes).entrySet()) {
+                visitor.visit(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static @NonNull Object nodes(final @NonNull CommandContext<?> context) {
+        try {
+            return (Object) GET_NODES.invokeExact((CommandContext) context);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    /**
+     * Visitor for the parsed nodes of a context.
+     *
+     * @param <S> brigadier command source type
+     * @since 2.0.0
+     */
+    @FunctionalInterface
+    @API(status = API.Status.INTERNAL, since = "2.0.0")
+    public interface Visitor<S> {
+
+        /**
+         * Visits a parsed node.
+         *
+         * @param node  the node
+         * @param range the range of the input that the node was parsed from
+         */
+        void visit(@NonNull CommandNode<S> node, @NonNull StringRange range);
+    }
+
+
+    // Inner class to prevent attempting to load ParsedCommandNode when it doesn't exist
+    @SuppressWarnings("unchecked")
+    private static final class ParsedCommandNodeHandler {
+
+        private ParsedCommandNodeHandler() {
+        }
+
+        private static <S> void visit(final @NonNull Object node, final @NonNull Visitor<S> visitor) {
+            final ParsedCommandNode<S> parsedNode = (ParsedCommandNode<S>) node;
+            visitor.visit(parsedNode.getNode(), parsedNode.getRange());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.util.BrigadierUtil;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+
+class CloudBrigadierCommandTest {
+
+    private CommandDispatcher<Object> dispatcher;
+    private TestCommandManager commandManager;
+    private CloudBrigadierManager<Object, Object> cloudBrigadierManager;
+
+    @BeforeEach
+    void setup() {
+        this.dispatcher = new CommandDispatcher<>();
+        this.commandManager = new TestCommandManager();
+        this.cloudBrigadierManager = new CloudBrigadierManager<>(this.commandManager, SenderMapper.identity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testReuseParsedArguments(final boolean reuse) throws Exception {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.REUSE_PARSED_ARGUMENTS, reuse);
+        final CountingArgumentType argumentType = new CountingArgumentType();
+        final AtomicReference<Integer> result = new AtomicReference<>();
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("literal")
+                .required("integer", ParserDescriptor.of(new WrappedBrigadierParser<Object, Integer>(argumentType), Integer.class))
+                .handler(context -> result.set(context.get("integer")))
+                .build();
+        this.commandManager.command(command);
+        this.dispatcher.getRoot().addChild(this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                new CloudBrigadierCommand<>(this.commandManager, this.cloudBrigadierManager)
+        ));
+
+        // Act
+        this.dispatcher.execute("command literal 42", new Object());
+
+        // Assert
+        assertThat(result.get()).isEqualTo(42);
+        assertThat(argumentType.parses.get()).isEqualTo(reuse ? 1 : 2);
+    }
+
+    @Test
+    void testParseFunctionIsNotSkipped() throws Exception {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.REUSE_PARSED_ARGUMENTS, true);
+        final CountingArgumentType argumentType = new CountingArgumentType();
+        final AtomicReference<Integer> result = new AtomicReference<>();
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .required("integer", ParserDescriptor.of(new WrappedBrigadierParser<Object, Integer>(
+                        () -> argumentType,
+                        (type, reader) -> type.parse(reader) + 1
+                ), Integer.class))
+                .handler(context -> result.set(context.get("integer")))
+                .build();
+        this.commandManager.command(command);
+        this.dispatcher.getRoot().addChild(this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                new CloudBrigadierCommand<>(this.commandManager, this.cloudBrigadierManager)
+        ));
+
+        // Act
+        this.dispatcher.execute("command 42", new Object());
+
+        // Assert
+        assertThat(result.get()).isEqualTo(43);
+        assertThat(argumentType.parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testInputMapperThatRewritesInputDisablesReuse() throws Exception {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.REUSE_PARSED_ARGUMENTS, true);
+        final CountingArgumentType argumentType = new CountingArgumentType();
+        final AtomicReference<Integer> result = new AtomicReference<>();
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("literal", "l")
+                .required("integer", ParserDescriptor.of(new WrappedBrigadierParser<Object, Integer>(argumentType), Integer.class))
+                .handler(context -> result.set(context.get("integer")))
+                .build();
+        this.commandManager.command(command);
+        this.dispatcher.getRoot().addChild(this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                new CloudBrigadierCommand<>(this.commandManager, this.cloudBrigadierManager, input -> input.replace("literal", "l"))
+        ));
+
+        // Act
+        this.dispatcher.execute("command literal 42", new Object());
+
+        // Assert
+        assertThat(result.get()).isEqualTo(42);
+        assertThat(argumentType.parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testAliasRedirectExecutesCommand() throws Exception {
+        // Arrange
+        final AtomicReference<Integer> result = new AtomicReference<>();
+        final Command<Object> command = this.commandManager.commandBuilder("command", "alias")
+                .literal("literal")
+                .required("integer", integerParser())
+                .handler(context -> result.set(context.get("integer")))
+                .build();
+        this.commandManager.command(command);
+        final LiteralCommandNode<Object> node = this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                new CloudBrigadierCommand<>(this.commandManager, this.cloudBrigadierManager)
+        );
+        this.dispatcher.getRoot().addChild(node);
+        this.dispatcher.getRoot().addChild(BrigadierUtil.buildAliasRedirect("alias", node));
+
+        // Act
+        this.dispatcher.execute("alias literal 42", new Object());
+
+        // Assert
+        assertThat(result.get()).isEqualTo(42);
+    }
+
+    @Test
+    void testCommandInputOfRedirectStartsAtRedirectTarget() {
+        // Arrange
+        final LiteralCommandNode<Object> target = LiteralArgumentBuilder.literal("command")
+                .then(LiteralArgumentBuilder.literal("literal").executes(context -> 1))
+                .build();
+        this.dispatcher.getRoot().addChild(target);
+        this.dispatcher.register(LiteralArgumentBuilder.literal("wrapper")
+                .then(RequiredArgumentBuilder.argument("text", StringArgumentType.string()).redirect(target)));
+        final String input = "wrapper \"quoted text\" literal";
+
+        // Act
+        final String commandInput = CloudBrigadierCommand.commandInput(
+                this.dispatcher.parse(input, new Object()).getContext().build(input)
+        );
+
+        // Assert
+        assertThat(commandInput).isEqualTo("command literal");
+    }
+
+    @Test
+    void testDirectLiteralExecutionInvokesHandler() throws Exception {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.DIRECT_LITERAL_EXECUTION, true);
+        final AtomicInteger preprocessed = new AtomicInteger();
+        final AtomicReference<String> rawInput = new AtomicReference<>();
+        this.commandManager.registerCommandPreProcessor(context -> preprocessed.incrementAndGet());
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("literal")
+                .handler(context -> rawInput.set(context.rawInput().input()))
+                .build();
+        this.commandManager.command(command);
+        final CloudBrigadierCommand<Object, Object> executor = new CloudBrigadierCommand<>(this.commandManager, this.cloudBrigadierManager);
+        this.dispatcher.getRoot().addChild(this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                executor
+        ));
+
+        // Act
+        this.dispatcher.execute("command literal", new Object());
+
+        // Assert
+        assertThat(this.dispatcher.getRoot().getChild("command").getChild("literal").getCommand())
+                .isNotSameInstanceAs(executor);
+        assertThat(preprocessed.get()).isEqualTo(1);
+        assertThat(rawInput.get()).isEqualTo("command literal");
+    }
+
+    @Test
+    void testDirectLiteralExecutionKeepsExecutorOfArguments() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.DIRECT_LITERAL_EXECUTION, true);
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("literal")
+                .required("integer", integerParser())
+                .build();
+        this.commandManager.command(command);
+        final CloudBrigadierCommand<Object, Object> executor = new CloudBrigadierCommand<>(this.commandManager, this.cloudBrigadierManager);
+
+        // Act
+        final LiteralCommandNode<Object> node = this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                executor
+        );
+
+        // Assert
+        assertThat(node.getChild("literal").getChild("integer").getCommand()).isSameInstanceAs(executor);
+    }
+
+    private static final class CountingArgumentType implements ArgumentType<Integer> {
+
+        private final AtomicInteger parses = new AtomicInteger();
+
+        @Override
+        public Integer parse(final StringReader reader) throws CommandSyntaxException {
+            this.parses.incrementAndGet();
+            return IntegerArgumentType.integer().parse(reader);
+        }
+    }
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.argument;
+
+import com.mojang.brigadier.arguments.StringArgumentType;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class BrigadierMappingsTest {
+
+    private BrigadierMappings<Object, Object> mappings;
+    private BrigadierMapping<?, BaseParser, Object> baseMapping;
+
+    @BeforeEach
+    void setup() {
+        this.mappings = BrigadierMappings.create();
+        this.baseMapping = BrigadierMapping.<Object, BaseParser, Object>builder()
+                .toConstant(StringArgumentType.word())
+                .build();
+        this.mappings.registerMappingUnsafe(BaseParser.class, this.baseMapping);
+    }
+
+    @Test
+    void testResolvesSuperclassMapping() {
+        // Act
+        final BrigadierMapping<?, ?, Object> mapping = this.mappings.mappingOrSuperclass(ExtendedParser.class);
+
+        // Assert
+        assertThat(mapping).isSameInstanceAs(this.baseMapping);
+    }
+
+    @Test
+    void testMappingIgnoresSuperclassMapping() {
+        // Act
+        final BrigadierMapping<?, ?, Object> mapping = this.mappings.mapping(ExtendedParser.class);
+
+        // Assert
+        assertThat(mapping).isNull();
+    }
+
+    @Test
+    void testRegistrationReplacesResolvedMapping() {
+        // Arrange
+        this.mappings.mappingOrSuperclass(ExtendedParser.class);
+        final BrigadierMapping<?, ExtendedParser, Object> extendedMapping =
+                BrigadierMapping.<Object, ExtendedParser, Object>builder()
+                        .toConstant(StringArgumentType.greedyString())
+                        .build();
+
+        // Act
+        this.mappings.registerMappingUnsafe(ExtendedParser.class, extendedMapping);
+
+        // Assert
+        assertThat(this.mappings.mappingOrSuperclass(ExtendedParser.class)).isSameInstanceAs(extendedMapping);
+        assertThat(this.mappings.mapping(BaseParser.class)).isSameInstanceAs(this.baseMapping);
+    }
+
+    @Test
+    void testUnmappedParser() {
+        // Act
+        final BrigadierMapping<?, ?, Object> mapping = this.mappings.mappingOrSuperclass(UnmappedParser.class);
+
+        // Assert
+        assertThat(mapping).isNull();
+    }
+
+
+    private static class BaseParser implements ArgumentParser<Object, String> {
+
+        @Override
+        public @NonNull ArgumentParseResult<@NonNull String> parse(
+                final @NonNull CommandContext<@NonNull Object> commandContext,
+                final @NonNull CommandInput commandInput
+        ) {
+            return ArgumentParseResult.success(commandInput.readString());
+        }
+    }
+
+
+    private static final class ExtendedParser extends BaseParser {
+    }
+
+
+    private static final class UnmappedParser implements ArgumentParser<Object, Integer> {
+
+        @Override
+        public @NonNull ArgumentParseResult<@NonNull Integer> parse(
+                final @NonNull CommandContext<@NonNull Object> commandContext,
+                final @NonNull CommandInput commandInput
+        ) {
+            return ArgumentParseResult.success(commandInput.readInteger());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.node;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.tree.CommandNode;
+import com.mojang.brigadier.tree.RootCommandNode;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class BrigadierTreeAnalyzerTest {
+
+    private RootCommandNode<Object> root;
+
+    @BeforeEach
+    void setup() {
+        this.root = new RootCommandNode<>();
+        this.root.addChild(LiteralArgumentBuilder.literal("a")
+                .then(RequiredArgumentBuilder.argument("n", IntegerArgumentType.integer()).executes(ctx -> 0))
+                .build());
+        this.root.addChild(LiteralArgumentBuilder.literal("b")
+                .requires(source -> false)
+                .then(LiteralArgumentBuilder.literal("c"))
+                .build());
+        this.root.addChild(LiteralArgumentBuilder.literal("alias").redirect(this.root).build());
+    }
+
+    @Test
+    void testAnalyze() {
+        // Act
+        final BrigadierTreeMetrics metrics = BrigadierTreeAnalyzer.analyze(this.root, new Object());
+
+        // Assert
+        assertThat(metrics.visibleNodes()).isEqualTo(3);
+        assertThat(metrics.redirects()).isEqualTo(1);
+        assertThat(metrics.literalBytes()).isEqualTo(6);
+        assertThat(metrics.maxDepth()).isEqualTo(2);
+        // Header (2), root (4), "a" (5), "n" (6) and "alias" (9).
+        assertThat(metrics.estimatedPacketSize()).isEqualTo(26);
+    }
+
+    @Test
+    void testAnalyzeChildren() {
+        // Act
+        final Map<String, BrigadierTreeMetrics> metrics = BrigadierTreeAnalyzer.analyzeChildren(this.root, new Object());
+
+        // Assert
+        assertThat(metrics.keySet()).containsExactly("a", "alias").inOrder();
+        assertThat(metrics.get("a").visibleNodes()).isEqualTo(2);
+        assertThat(metrics.get("a").maxDepth()).isEqualTo(2);
+        assertThat(metrics.get("a").estimatedPacketSize()).isEqualTo(11);
+        assertThat(metrics.get("alias").redirects()).isEqualTo(1);
+        assertThat(metrics.get("alias").estimatedPacketSize()).isEqualTo(9);
+    }
+
+    @Test
+    void testSharedChildIsCountedPerParent() {
+        // Arrange
+        final RootCommandNode<Object> root = new RootCommandNode<>();
+        final CommandNode<Object> shared = LiteralArgumentBuilder.literal("shared").executes(ctx -> 0).build();
+        final CommandNode<Object> first = LiteralArgumentBuilder.literal("x").build();
+        final CommandNode<Object> second = LiteralArgumentBuilder.literal("y").build();
+        first.addChild(shared);
+        second.addChild(shared);
+        root.addChild(first);
+        root.addChild(second);
+
+        // Act
+        final BrigadierTreeMetrics metrics = BrigadierTreeAnalyzer.analyze(root, new Object());
+
+        // Assert
+        assertThat(metrics.visibleNodes()).isEqualTo(4);
+        assertThat(metrics.literalBytes()).isEqualTo(14);
+        assertThat(metrics.redirects()).isEqualTo(0);
+    }
+}
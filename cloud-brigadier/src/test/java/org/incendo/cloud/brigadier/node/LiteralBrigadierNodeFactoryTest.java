@@ -27,6 +27,7 @@ import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
 import com.mojang.brigadier.suggestion.Suggestions;
 import com.mojang.brigadier.suggestion.SuggestionsBuilder;
@@ -34,14 +35,23 @@ import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.TypeToken;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.suggestion.CloudDelegatingSuggestionProvider;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.execution.ExecutionCoordinator;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
 import org.incendo.cloud.parser.aggregate.AggregateParser;
 import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.type.tuple.Pair;
@@ -61,17 +71,18 @@ class LiteralBrigadierNodeFactoryTest {
 
     private CommandDispatcher<Object> dispatcher;
     private TestCommandManager commandManager;
+    private CloudBrigadierManager<Object, Object> cloudBrigadierManager;
     private LiteralBrigadierNodeFactory<Object, Object> literalBrigadierNodeFactory;
 
     @BeforeEach
     void setup() {
         this.dispatcher = new CommandDispatcher<>();
         this.commandManager = new TestCommandManager();
-        final CloudBrigadierManager<Object, Object> cloudBrigadierManager = new CloudBrigadierManager<>(
+        this.cloudBrigadierManager = new CloudBrigadierManager<>(
                 this.commandManager,
                 SenderMapper.identity()
         );
-        this.literalBrigadierNodeFactory = cloudBrigadierManager.literalBrigadierNodeFactory();
+        this.literalBrigadierNodeFactory = this.cloudBrigadierManager.literalBrigadierNodeFactory();
     }
 
     @Test
@@ -212,6 +223,277 @@ class LiteralBrigadierNodeFactoryTest {
         assertThat(booleanArgument.getCommand()).isEqualTo(brigadierCommand);
     }
 
+    @Test
+    void testIncrementalBuildReusesUnchangedSubtrees() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.INCREMENTAL_TREE_BUILDS, true);
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("first")
+                .required("integer", integerParser())
+                .build();
+        this.commandManager.command(command);
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("second"));
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> previous = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Act
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("second").literal("third"));
+        final LiteralCommandNode<Object> commandNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        assertThat(commandNode).isNotSameInstanceAs(previous);
+        assertThat(commandNode.getChild("first")).isSameInstanceAs(previous.getChild("first"));
+        assertThat(commandNode.getChild("second")).isNotSameInstanceAs(previous.getChild("second"));
+        assertThat(commandNode.getChild("second").getChild("third")).isNotNull();
+    }
+
+    @Test
+    void testIncrementalBuildDoesNotShareNodesBetweenLabels() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.INCREMENTAL_TREE_BUILDS, true);
+        final Command<Object> command = this.commandManager.commandBuilder("command", "alias")
+                .literal("first")
+                .build();
+        this.commandManager.command(command);
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> canonical = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Act
+        final LiteralCommandNode<Object> alias = this.literalBrigadierNodeFactory.createNode(
+                "alias",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        assertThat(alias.getChild("first")).isNotSameInstanceAs(canonical.getChild("first"));
+    }
+
+    @Test
+    void testIncrementalBuildReusesNodesForEveryLabel() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.INCREMENTAL_TREE_BUILDS, true);
+        final Command<Object> command = this.commandManager.commandBuilder("command", "alias")
+                .literal("first")
+                .build();
+        this.commandManager.command(command);
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> canonical = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+        final LiteralCommandNode<Object> alias = this.literalBrigadierNodeFactory.createNode(
+                "alias",
+                command,
+                brigadierCommand
+        );
+
+        // Act
+        final LiteralCommandNode<Object> rebuiltCanonical = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+        final LiteralCommandNode<Object> rebuiltAlias = this.literalBrigadierNodeFactory.createNode(
+                "alias",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        assertThat(rebuiltCanonical.getChild("first")).isSameInstanceAs(canonical.getChild("first"));
+        assertThat(rebuiltAlias.getChild("first")).isSameInstanceAs(alias.getChild("first"));
+    }
+
+    @Test
+    void testIncrementalBuildRebuildsNodesOfOlderRegistryGeneration() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.INCREMENTAL_TREE_BUILDS, true);
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .required("integer", integerParser())
+                .build();
+        this.commandManager.command(command);
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> previous = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Act
+        RegistryGeneration.global().advance();
+        final LiteralCommandNode<Object> commandNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        assertThat(commandNode.getChild("integer")).isNotSameInstanceAs(previous.getChild("integer"));
+    }
+
+    @Test
+    void testIncrementalBuildRebuildsModifiedNodes() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.INCREMENTAL_TREE_BUILDS, true);
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("first")
+                .literal("second")
+                .build();
+        this.commandManager.command(command);
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> previous = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+        previous.getChild("first").addChild(LiteralArgumentBuilder.<Object>literal("merged").build());
+
+        // Act
+        final LiteralCommandNode<Object> commandNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        assertThat(commandNode.getChild("first")).isNotSameInstanceAs(previous.getChild("first"));
+        assertThat(commandNode.getChild("first").getChild("merged")).isNull();
+        assertThat(commandNode.getChild("first").getChild("second"))
+                .isSameInstanceAs(previous.getChild("first").getChild("second"));
+    }
+
+    @Test
+    void testParallelBuildKeepsChildOrder() {
+        // Arrange
+        for (int i = 0; i < 64; i++) {
+            this.commandManager.command(this.commandManager.commandBuilder("command")
+                    .literal("sub" + i)
+                    .required("integer", integerParser()));
+        }
+        final Command<Object> command = this.commandManager.commandBuilder("command").build();
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> sequential = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Act
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.PARALLEL_TREE_BUILDS, true);
+        final LiteralCommandNode<Object> parallel = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        assertThat(childNames(parallel)).containsExactlyElementsIn(childNames(sequential)).inOrder();
+        assertThat(parallel.getChild("sub63").getChild("integer")).isNotNull();
+    }
+
+    @Test
+    void testSuperclassMappingsAreOptIn() {
+        // Arrange
+        this.cloudBrigadierManager.registerMapping(
+                new TypeToken<GreedyParser>() {},
+                builder -> builder.toConstant(StringArgumentType.greedyString())
+        );
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .required("text", ParserDescriptor.of(new ExtendedGreedyParser(), String.class))
+                .build();
+        this.commandManager.command(command);
+        final com.mojang.brigadier.Command<Object> brigadierCommand = ctx -> 0;
+        final LiteralCommandNode<Object> exactNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Act
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.RESOLVE_SUPERCLASS_MAPPINGS, true);
+        final LiteralCommandNode<Object> resolvedNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                brigadierCommand
+        );
+
+        // Assert
+        final ArgumentCommandNode<Object, String> exactArgument =
+                (ArgumentCommandNode<Object, String>) exactNode.getChild("text");
+        assertThat(((StringArgumentType) exactArgument.getType()).getType())
+                .isEqualTo(StringArgumentType.StringType.SINGLE_WORD);
+        final ArgumentCommandNode<Object, String> resolvedArgument =
+                (ArgumentCommandNode<Object, String>) resolvedNode.getChild("text");
+        assertThat(((StringArgumentType) resolvedArgument.getType()).getType())
+                .isEqualTo(StringArgumentType.StringType.GREEDY_PHRASE);
+    }
+
+    @Test
+    void testInternedRequirementsAreShared() {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.INTERN_REQUIREMENTS, true);
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .literal("first")
+                .permission("command.use"));
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .literal("second")
+                .permission("command.use"));
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .literal("third")
+                .permission("command.other"));
+        final Command<Object> command = this.commandManager.commandBuilder("command").build();
+
+        // Act
+        final LiteralCommandNode<Object> commandNode = this.literalBrigadierNodeFactory.createNode(
+                "command",
+                command,
+                ctx -> 0
+        );
+
+        // Assert
+        assertThat(commandNode.getChild("first").getRequirement())
+                .isSameInstanceAs(commandNode.getChild("second").getRequirement());
+        assertThat(commandNode.getChild("first").getRequirement())
+                .isNotSameInstanceAs(commandNode.getChild("third").getRequirement());
+    }
+
+    private static @NonNull List<String> childNames(final com.mojang.brigadier.tree.@NonNull CommandNode<Object> node) {
+        return node.getChildren().stream()
+                .map(com.mojang.brigadier.tree.CommandNode::getName)
+                .collect(Collectors.toList());
+    }
+
+
+
+    private static class GreedyParser implements ArgumentParser<Object, String> {
+
+        @Override
+        public @NonNull ArgumentParseResult<@NonNull String> parse(
+                final @NonNull CommandContext<@NonNull Object> commandContext,
+                final @NonNull CommandInput commandInput
+        ) {
+            return ArgumentParseResult.success(commandInput.readString());
+        }
+    }
+
+
+    private static final class ExtendedGreedyParser extends GreedyParser {
+    }
+
 
     private static final class TestCommandManager extends CommandManager<Object> {
 
@@ -29,6 +29,7 @@ import org.incendo.cloud.context.CommandInput;
 import org.junit.jupiter.api.Test;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CloudStringReaderTest {
 
@@ -128,4 +129,51 @@ class CloudStringReaderTest {
         assertThat(readInt).isEqualTo(123);
         assertThat(commandInput.remainingInput()).isEqualTo("abc");
     }
+
+    @Test
+    void testQuotedStringRead() throws CommandSyntaxException {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("\"hello \\\"some\\\" worlds\" abc");
+        final StringReader stringReader = CloudStringReader.of(commandInput);
+
+        // Act
+        final String readString = stringReader.readString();
+        stringReader.skipWhitespace();
+
+        // Assert
+        assertThat(readString).isEqualTo("hello \"some\" worlds");
+        assertThat(commandInput.remainingInput()).isEqualTo("abc");
+    }
+
+    @Test
+    void testFailedIntReadRestoresCursor() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("1.5 abc");
+        final StringReader stringReader = CloudStringReader.of(commandInput);
+
+        // Act
+        assertThrows(CommandSyntaxException.class, stringReader::readInt);
+
+        // Assert
+        assertThat(stringReader.getCursor()).isEqualTo(0);
+        assertThat(commandInput.remainingInput()).isEqualTo("1.5 abc");
+    }
+
+    @Test
+    void testCursorIsSharedWithCommandInput() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("abc def");
+        final StringReader stringReader = CloudStringReader.of(commandInput);
+
+        // Act
+        final char read = stringReader.read();
+        stringReader.skip();
+        commandInput.moveCursor(2);
+
+        // Assert
+        assertThat(read).isEqualTo('a');
+        assertThat(stringReader.getCursor()).isEqualTo(4);
+        assertThat(stringReader.peek()).isEqualTo('d');
+        assertThat(commandInput.remainingInput()).isEqualTo("def");
+    }
 }
@@ -0,0 +1,122 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("deprecation")
+class NativeSendersTest {
+
+    private CommandContext<Object> commandContext;
+
+    @BeforeEach
+    void setup() {
+        this.commandContext = new CommandContext<>("sender", new TestCommandManager());
+    }
+
+    @Test
+    void testSupplierIsResolvedOnce() {
+        // Arrange
+        final AtomicInteger calls = new AtomicInteger();
+        NativeSenders.storeSupplier(this.commandContext, () -> "native-" + calls.incrementAndGet());
+
+        // Act
+        final Object first = NativeSenders.nativeSender(this.commandContext);
+        final Object second = NativeSenders.nativeSender(this.commandContext);
+
+        // Assert
+        assertThat(first).isEqualTo("native-1");
+        assertThat(second).isEqualTo("native-1");
+        assertThat(this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER))
+                .isEqualTo("native-1");
+    }
+
+    @Test
+    void testStoredSenderTakesPrecedence() {
+        // Arrange
+        final AtomicInteger calls = new AtomicInteger();
+        this.commandContext.store(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER, "stored");
+
+        // Act
+        NativeSenders.storeSupplier(this.commandContext, () -> "native-" + calls.incrementAndGet());
+        final Object sender = NativeSenders.nativeSender(this.commandContext);
+
+        // Assert
+        assertThat(sender).isEqualTo("stored");
+        assertThat(calls.get()).isEqualTo(0);
+    }
+
+    @Test
+    void testStoredSenderReplacesSupplier() {
+        // Arrange
+        final AtomicInteger calls = new AtomicInteger();
+        NativeSenders.storeSupplier(this.commandContext, () -> "native-" + calls.incrementAndGet());
+
+        // Act
+        NativeSenders.store(this.commandContext, "stored");
+        final Object sender = NativeSenders.nativeSender(this.commandContext);
+
+        // Assert
+        assertThat(sender).isEqualTo("stored");
+        assertThat(calls.get()).isEqualTo(0);
+    }
+
+    @Test
+    void testFailsWithoutSender() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> NativeSenders.nativeSender(this.commandContext));
+    }
+
+    @Test
+    void testFallsBackToDefault() {
+        // Act
+        final Object sender = NativeSenders.nativeSenderOrDefault(this.commandContext, this.commandContext.sender());
+
+        // Assert
+        assertThat(sender).isEqualTo("sender");
+    }
+
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.parser;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class RegistryGenerationTest {
+
+    @Test
+    void testMemoizesWithinGeneration() {
+        // Arrange
+        final RegistryGeneration registryGeneration = new RegistryGeneration();
+        registryGeneration.track();
+        final AtomicInteger invocations = new AtomicInteger();
+        final Supplier<Integer> supplier = registryGeneration.memoize(invocations::incrementAndGet);
+
+        // Act
+        final int first = supplier.get();
+        final int second = supplier.get();
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(1);
+        assertThat(invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testAdvanceInvalidates() {
+        // Arrange
+        final RegistryGeneration registryGeneration = new RegistryGeneration();
+        registryGeneration.track();
+        final AtomicInteger invocations = new AtomicInteger();
+        final Supplier<Integer> supplier = registryGeneration.memoize(invocations::incrementAndGet);
+        supplier.get();
+
+        // Act
+        registryGeneration.advance();
+        final int value = supplier.get();
+
+        // Assert
+        assertThat(value).isEqualTo(2);
+        assertThat(registryGeneration.current()).isEqualTo(1);
+    }
+
+    @Test
+    void testUntrackedDoesNotMemoize() {
+        // Arrange
+        final RegistryGeneration registryGeneration = new RegistryGeneration();
+        final AtomicInteger invocations = new AtomicInteger();
+        final Supplier<Integer> supplier = registryGeneration.memoize(invocations::incrementAndGet);
+
+        // Act
+        final int first = supplier.get();
+        final int second = supplier.get();
+
+        // Assert
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    void testParseAfterReloadUsesNewArgumentType() {
+        // Arrange
+        final RegistryGeneration registryGeneration = new RegistryGeneration();
+        registryGeneration.track();
+        final AtomicInteger reloads = new AtomicInteger();
+        final WrappedBrigadierParser<Object, String> parser = new WrappedBrigadierParser<>(
+                () -> {
+                    // Captures the "registries" of the current reload, like the NMS argument types do
+                    final int registries = reloads.get();
+                    final ArgumentType<String> argumentType = reader -> registries + ":" + reader.readUnquotedString();
+                    return argumentType;
+                },
+                null,
+                registryGeneration
+        );
+        final CommandContext<Object> commandContext = new CommandContext<>("sender", new TestCommandManager());
+        final String beforeReload = parser.parse(commandContext, CommandInput.of("stone")).parsedValue().orElseThrow();
+
+        // Act
+        reloads.incrementAndGet();
+        final String stale = parser.parse(commandContext, CommandInput.of("stone")).parsedValue().orElseThrow();
+        registryGeneration.advance();
+        final String afterReload = parser.parse(commandContext, CommandInput.of("stone")).parsedValue().orElseThrow();
+
+        // Assert
+        assertThat(beforeReload).isEqualTo("0:stone");
+        assertThat(stale).isEqualTo("0:stone");
+        assertThat(afterReload).isEqualTo("1:stone");
+    }
+
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
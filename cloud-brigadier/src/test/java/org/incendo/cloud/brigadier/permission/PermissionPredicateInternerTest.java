@@ -0,0 +1,121 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.permission;
+
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class PermissionPredicateInternerTest {
+
+    private final SenderMapper<Object, Object> senderMapper = SenderMapper.identity();
+
+    private TestCommandManager commandManager;
+    private BrigadierPermissionChecker<Object> permissionChecker;
+    private PermissionPredicateInterner<Object, Object> interner;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("first").permission("command.first"));
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("one").permission("command.first"));
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("second").permission("command.second"));
+        this.permissionChecker = (sender, permission) -> this.commandManager.testPermission(sender, permission).allowed();
+        this.interner = new PermissionPredicateInterner<>();
+    }
+
+    @Test
+    void testSharesRequirementsOfEqualPermissions() {
+        // Arrange
+        final Predicate<Object> first = this.requirement("first");
+
+        // Act
+        final Predicate<Object> one = this.requirement("one");
+        final Predicate<Object> second = this.requirement("second");
+
+        // Assert
+        assertThat(one).isSameInstanceAs(first);
+        assertThat(second).isNotSameInstanceAs(first);
+        assertThat(first.test(new Object())).isTrue();
+        assertThat(second.test(new Object())).isFalse();
+    }
+
+    @Test
+    void testDoesNotShareRequirementsOfOtherCheckers() {
+        // Arrange
+        final Predicate<Object> first = this.requirement("first");
+
+        // Act
+        final Predicate<Object> other =
+                this.interner.requirement(this.senderMapper, (sender, permission) -> false, this.node("first"));
+
+        // Assert
+        assertThat(other).isNotSameInstanceAs(first);
+        assertThat(other.test(new Object())).isFalse();
+    }
+
+    @Test
+    void testClearDiscardsRequirements() {
+        // Arrange
+        final Predicate<Object> first = this.requirement("first");
+
+        // Act
+        this.interner.clear();
+
+        // Assert
+        assertThat(this.requirement("first")).isNotSameInstanceAs(first);
+    }
+
+    private @NonNull Predicate<Object> requirement(final @NonNull String literal) {
+        return this.interner.requirement(this.senderMapper, this.permissionChecker, this.node(literal));
+    }
+
+    private @NonNull CommandNode<Object> node(final @NonNull String literal) {
+        return this.commandManager.commandTree().getNamedNode("command").children().stream()
+                .filter(child -> child.component().name().equals(literal))
+                .findFirst()
+                .get();
+    }
+
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return permission.equals("command.first");
+        }
+    }
+}
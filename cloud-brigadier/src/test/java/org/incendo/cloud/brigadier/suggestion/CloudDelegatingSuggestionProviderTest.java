@@ -0,0 +1,161 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import java.util.Arrays;
+import java.util.Locale;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.Command;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.BrigadierSetting;
+import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.parser.ArgumentParseResult;
+import org.incendo.cloud.parser.ArgumentParser;
+import org.incendo.cloud.parser.ParserDescriptor;
+import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.IntegerParser.integerParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+@SuppressWarnings("unchecked")
+class CloudDelegatingSuggestionProviderTest {
+
+    private CommandDispatcher<Object> dispatcher;
+    private TestCommandManager commandManager;
+    private CloudBrigadierManager<Object, Object> cloudBrigadierManager;
+
+    @BeforeEach
+    void setup() {
+        this.dispatcher = new CommandDispatcher<>();
+        this.commandManager = new TestCommandManager();
+        this.cloudBrigadierManager = new CloudBrigadierManager<>(this.commandManager, SenderMapper.identity());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testSuggestionsUsePrecedingArguments(final boolean anchored) throws Exception {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.ANCHORED_SUGGESTIONS, anchored);
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .literal("literal")
+                .required("integer", integerParser(0, 10))
+                .required("string", stringParser(), (BlockingSuggestionProvider.Strings<Object>) (ctx, input) ->
+                        Arrays.asList("first-" + ctx.<Integer>get("integer"), "second-" + ctx.<Integer>get("integer")))
+                .build();
+        this.commandManager.command(command);
+        final LiteralCommandNode<Object> commandNode = this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                ctx -> 0
+        );
+        this.dispatcher.getRoot().addChild(commandNode);
+        final ArgumentCommandNode<Object, String> stringArgument = (ArgumentCommandNode<Object, String>)
+                commandNode.getChild("literal").getChild("integer").getChild("string");
+        final SuggestionProvider<Object> suggestionProvider = stringArgument.getCustomSuggestions();
+
+        // Act
+        final String input = "command literal 9 fi";
+        final Suggestions suggestions = suggestionProvider.getSuggestions(
+                this.dispatcher.parse(input, new Object()).getContext().build(input),
+                new SuggestionsBuilder(input, input.length() - 2)
+        ).get();
+
+        // Assert
+        assertThat(suggestions.getRange().getStart()).isEqualTo(input.length() - 2);
+        assertThat(suggestions.getList().stream().map(com.mojang.brigadier.suggestion.Suggestion::getText))
+                .containsExactly("first-9");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testSuggestionsUseCloudValuesOfUnwrappedParsers(final boolean anchored) throws Exception {
+        // Arrange
+        this.cloudBrigadierManager.settings().set(BrigadierSetting.ANCHORED_SUGGESTIONS, anchored);
+        final Command<Object> command = this.commandManager.commandBuilder("command")
+                .required("name", ParserDescriptor.of(new UpperCaseParser(), String.class))
+                .required("string", stringParser(), (BlockingSuggestionProvider.Strings<Object>) (ctx, input) ->
+                        Arrays.asList("first-" + ctx.<String>get("name"), "second-" + ctx.<String>get("name")))
+                .build();
+        this.commandManager.command(command);
+        final LiteralCommandNode<Object> commandNode = this.cloudBrigadierManager.literalBrigadierNodeFactory().createNode(
+                "command",
+                command,
+                ctx -> 0
+        );
+        this.dispatcher.getRoot().addChild(commandNode);
+        final ArgumentCommandNode<Object, String> stringArgument = (ArgumentCommandNode<Object, String>)
+                commandNode.getChild("name").getChild("string");
+        final SuggestionProvider<Object> suggestionProvider = stringArgument.getCustomSuggestions();
+
+        // Act
+        final String input = "command abc fi";
+        final Suggestions suggestions = suggestionProvider.getSuggestions(
+                this.dispatcher.parse(input, new Object()).getContext().build(input),
+                new SuggestionsBuilder(input, input.length() - 2)
+        ).get();
+
+        // Assert
+        assertThat(suggestions.getList().stream().map(com.mojang.brigadier.suggestion.Suggestion::getText))
+                .containsExactly("first-ABC");
+    }
+
+
+    private static final class UpperCaseParser implements ArgumentParser<Object, String> {
+
+        @Override
+        public @NonNull ArgumentParseResult<@NonNull String> parse(
+                final @NonNull CommandContext<@NonNull Object> commandContext,
+                final @NonNull CommandInput commandInput
+        ) {
+            return ArgumentParseResult.success(commandInput.readString().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
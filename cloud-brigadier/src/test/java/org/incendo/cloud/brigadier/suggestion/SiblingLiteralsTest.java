@@ -0,0 +1,138 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandNode;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+class SiblingLiteralsTest {
+
+    private TestCommandManager commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("first", "one"));
+        this.commandManager.command(this.commandManager.commandBuilder("command").required("value", stringParser()));
+    }
+
+    @Test
+    void testCollectsLiteralAliases() {
+        // Arrange
+        final CommandNode<Object> node = this.commandManager.commandTree().getNamedNode("command");
+        SiblingLiterals.update(node);
+
+        // Act
+        final Set<String> literals = SiblingLiterals.of(node);
+
+        // Assert
+        assertThat(literals).containsExactly("first", "one");
+        assertThat(SiblingLiterals.of(node)).isSameInstanceAs(literals);
+    }
+
+    @Test
+    void testRecomputesWhenChildrenChange() {
+        // Arrange
+        final CommandNode<Object> node = this.commandManager.commandTree().getNamedNode("command");
+        SiblingLiterals.update(node);
+
+        // Act
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("second"));
+        final Set<String> literals = SiblingLiterals.of(node);
+
+        // Assert
+        assertThat(literals).containsExactly("first", "one", "second");
+    }
+
+    @Test
+    void testRecomputesWhenChildIsReplaced() {
+        // Arrange
+        final CommandNode<Object> node = this.commandManager.commandTree().getNamedNode("command");
+        SiblingLiterals.update(node);
+        final CommandNode<Object> first = node.children().stream()
+                .filter(child -> child.component().name().equals("first"))
+                .findFirst()
+                .get();
+
+        // Act
+        node.removeChild(first);
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("second"));
+        final Set<String> literals = SiblingLiterals.of(node);
+
+        // Assert
+        assertThat(node.children()).hasSize(2);
+        assertThat(literals).containsExactly("second");
+        assertThat(SiblingLiterals.of(node)).isSameInstanceAs(literals);
+    }
+
+    @Test
+    void testUpdateKeepsUnchangedLiterals() {
+        // Arrange
+        final CommandNode<Object> node = this.commandManager.commandTree().getNamedNode("command");
+        SiblingLiterals.update(node);
+        final Set<String> literals = SiblingLiterals.of(node);
+
+        // Act
+        SiblingLiterals.update(node);
+
+        // Assert
+        assertThat(SiblingLiterals.of(node)).isSameInstanceAs(literals);
+    }
+
+    @Test
+    void testUpdateReplacesChangedLiterals() {
+        // Arrange
+        final CommandNode<Object> node = this.commandManager.commandTree().getNamedNode("command");
+        SiblingLiterals.update(node);
+
+        // Act
+        this.commandManager.command(this.commandManager.commandBuilder("command").literal("second"));
+        SiblingLiterals.update(node);
+
+        // Assert
+        assertThat(SiblingLiterals.of(node)).containsExactly("first", "one", "second");
+    }
+
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.suggestion;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class SuggestionRequestTrackerTest {
+
+    private SuggestionRequestTracker<Object> tracker;
+
+    @BeforeEach
+    void setup() {
+        this.tracker = new SuggestionRequestTracker<>();
+    }
+
+    @Test
+    void testCancelsSupersededRequest() {
+        // Arrange
+        final SuggestionRequest first = this.tracker.request("sender", "command a");
+        final CompletableFuture<String> firstFuture = this.tracker.track("sender", first, new CompletableFuture<>());
+
+        // Act
+        final SuggestionRequest second = this.tracker.request("sender", "command ab");
+        final CompletableFuture<String> secondFuture = this.tracker.track("sender", second, new CompletableFuture<>());
+
+        // Assert
+        assertThat(first.cancelled()).isTrue();
+        assertThat(firstFuture.isCancelled()).isTrue();
+        assertThat(second.cancelled()).isFalse();
+        assertThat(secondFuture.isDone()).isFalse();
+    }
+
+    @Test
+    void testSharesRequestForSameInput() {
+        // Arrange
+        final SuggestionRequest first = this.tracker.request("sender", "command a");
+        final CompletableFuture<String> firstSource = new CompletableFuture<>();
+        final CompletableFuture<String> firstFuture = this.tracker.track("sender", first, firstSource);
+
+        // Act
+        final SuggestionRequest second = this.tracker.request("sender", "command a");
+        this.tracker.track("sender", second, new CompletableFuture<>());
+        firstSource.complete("result");
+
+        // Assert
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(first.cancelled()).isFalse();
+        assertThat(firstFuture.join()).isEqualTo("result");
+    }
+
+    @Test
+    void testDoesNotCancelOtherSenders() {
+        // Arrange
+        final SuggestionRequest first = this.tracker.request("first", "command a");
+        final CompletableFuture<String> firstFuture = this.tracker.track("first", first, new CompletableFuture<>());
+
+        // Act
+        this.tracker.request("second", "command ab");
+
+        // Assert
+        assertThat(first.cancelled()).isFalse();
+        assertThat(firstFuture.isCancelled()).isFalse();
+    }
+
+    @Test
+    void testCompletedRequestIsNotCancelled() {
+        // Arrange
+        final SuggestionRequest first = this.tracker.request("sender", "command a");
+        this.tracker.track("sender", first, CompletableFuture.completedFuture("result"));
+
+        // Act
+        this.tracker.request("sender", "command ab");
+
+        // Assert
+        assertThat(first.cancelled()).isFalse();
+    }
+
+    @Test
+    void testCancellationReachesSourceFuture() {
+        // Arrange
+        final SuggestionRequest first = this.tracker.request("sender", "command a");
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        this.tracker.track("sender", first, source);
+
+        // Act
+        this.tracker.request("sender", "command ab");
+
+        // Assert
+        assertThat(source.isCancelled()).isTrue();
+        assertThat(first.inFlight()).isEqualTo(0);
+    }
+
+    @Test
+    void testCompletedFuturesAreNoLongerTracked() {
+        // Arrange
+        final SuggestionRequest request = this.tracker.request("sender", "command a");
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        this.tracker.track("sender", request, source);
+        this.tracker.request("sender", "command a");
+        this.tracker.track("sender", request, new CompletableFuture<>());
+
+        // Act
+        source.complete("result");
+
+        // Assert
+        assertThat(request.inFlight()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,129 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.builder.RequiredArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.suggestion.Suggestion;
+import com.mojang.brigadier.tree.LiteralCommandNode;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.brigadier.node.BrigadierTreeAnalyzer;
+import org.incendo.cloud.brigadier.node.BrigadierTreeMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BrigadierUtilTest {
+
+    @ParameterizedTest
+    @MethodSource("aliasFactories")
+    void testAliasExecutesCommand(final @NonNull BiFunction<String, LiteralCommandNode<Object>, LiteralCommandNode<Object>> factory)
+            throws CommandSyntaxException {
+        // Arrange
+        final CommandDispatcher<Object> dispatcher = dispatcher(factory);
+
+        // Act & Assert
+        assertThat(dispatcher.execute("alias", new Object())).isEqualTo(1);
+        assertThat(dispatcher.execute("alias sub 5", new Object())).isEqualTo(5);
+        assertThat(dispatcher.execute("command sub 5", new Object())).isEqualTo(5);
+        assertThrows(CommandSyntaxException.class, () -> dispatcher.execute("alias sub", new Object()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("aliasFactories")
+    void testAliasSuggestsChildren(final @NonNull BiFunction<String, LiteralCommandNode<Object>, LiteralCommandNode<Object>> factory) {
+        // Arrange
+        final CommandDispatcher<Object> dispatcher = dispatcher(factory);
+
+        // Act
+        final List<String> suggestions = dispatcher.getCompletionSuggestions(dispatcher.parse("alias s", new Object()))
+                .join()
+                .getList()
+                .stream()
+                .map(Suggestion::getText)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertThat(suggestions).containsExactly("sub");
+    }
+
+    @ParameterizedTest
+    @MethodSource("aliasFactories")
+    void testAliasUsesRequirement(final @NonNull BiFunction<String, LiteralCommandNode<Object>, LiteralCommandNode<Object>> factory) {
+        // Arrange
+        final CommandDispatcher<Object> dispatcher = dispatcher(factory);
+
+        // Act & Assert
+        assertThat(dispatcher.getRoot().getChild("alias").canUse("allowed")).isTrue();
+        assertThat(dispatcher.getRoot().getChild("alias").canUse("denied")).isFalse();
+    }
+
+    @Test
+    void testAliasRedirectSendsTreeOnce() {
+        // Arrange
+        final CommandDispatcher<Object> flattened = dispatcher(BrigadierUtil::buildRedirect);
+        final CommandDispatcher<Object> redirected = dispatcher(BrigadierUtil::buildAliasRedirect);
+
+        // Act
+        final BrigadierTreeMetrics flattenedMetrics = BrigadierTreeAnalyzer.analyze(flattened.getRoot(), new Object());
+        final BrigadierTreeMetrics redirectedMetrics = BrigadierTreeAnalyzer.analyze(redirected.getRoot(), new Object());
+
+        // Assert
+        assertThat(flattenedMetrics.visibleNodes()).isEqualTo(6);
+        assertThat(redirectedMetrics.visibleNodes()).isEqualTo(4);
+        assertThat(redirectedMetrics.redirects()).isEqualTo(1);
+        assertThat(redirectedMetrics.estimatedPacketSize()).isLessThan(flattenedMetrics.estimatedPacketSize());
+    }
+
+    static @NonNull Stream<Arguments> aliasFactories() {
+        final BiFunction<String, LiteralCommandNode<Object>, LiteralCommandNode<Object>> flattened = BrigadierUtil::buildRedirect;
+        final BiFunction<String, LiteralCommandNode<Object>, LiteralCommandNode<Object>> redirect = BrigadierUtil::buildAliasRedirect;
+        return Stream.of(Arguments.of(flattened), Arguments.of(redirect));
+    }
+
+    private static @NonNull CommandDispatcher<Object> dispatcher(
+            final @NonNull BiFunction<String, LiteralCommandNode<Object>, LiteralCommandNode<Object>> factory
+    ) {
+        final CommandDispatcher<Object> dispatcher = new CommandDispatcher<>();
+        final LiteralCommandNode<Object> command = dispatcher.register(LiteralArgumentBuilder.literal("command")
+                .requires(source -> !"denied".equals(source))
+                .executes(ctx -> 1)
+                .then(LiteralArgumentBuilder.literal("sub")
+                        .then(RequiredArgumentBuilder.argument("value", IntegerArgumentType.integer())
+                                .executes(ctx -> IntegerArgumentType.getInteger(ctx, "value")))));
+        dispatcher.getRoot().addChild(factory.apply("alias", command));
+        return dispatcher;
+    }
+}
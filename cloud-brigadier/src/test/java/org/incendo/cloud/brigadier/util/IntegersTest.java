@@ -0,0 +1,73 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class IntegersTest {
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void testMatchesParseInt(final String input) {
+        // Act
+        final boolean integer = Integers.isInteger(input);
+
+        // Assert
+        assertThat(integer).isEqualTo(parses(input));
+    }
+
+    @ParameterizedTest
+    @MethodSource("inputs")
+    void testParseMatchesParseInt(final String input) {
+        // Act
+        final long value = Integers.parseInteger(input);
+
+        // Assert
+        if (parses(input)) {
+            assertThat(value).isEqualTo(Integer.parseInt(input));
+        } else {
+            assertThat(value).isEqualTo(Integers.NOT_AN_INTEGER);
+        }
+    }
+
+    static Stream<String> inputs() {
+        return Stream.of(
+                "", "-", "+", "0", "007", "-12", "+12", "12a", "player", "1.5", " 1",
+                "2147483647", "2147483648", "-2147483648", "-2147483649", "99999999999999999999"
+        );
+    }
+
+    private static boolean parses(final String input) {
+        try {
+            Integer.parseInt(input);
+            return true;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.brigadier.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.incendo.cloud.SenderMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class MemoizingSenderMapperTest {
+
+    private AtomicInteger mappings;
+    private AtomicLong ticker;
+    private MemoizingSenderMapper<Object, String> senderMapper;
+
+    @BeforeEach
+    void setup() {
+        this.mappings = new AtomicInteger();
+        this.ticker = new AtomicLong();
+        this.senderMapper = new MemoizingSenderMapper<>(
+                SenderMapper.create(source -> "sender-" + this.mappings.incrementAndGet(), sender -> sender),
+                this.ticker::get
+        );
+    }
+
+    @Test
+    void testMapsSourceOnce() {
+        // Arrange
+        final Object source = new Object();
+
+        // Act
+        final String first = this.senderMapper.map(source);
+        final String second = this.senderMapper.map(source);
+
+        // Assert
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(this.mappings.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testMapsOtherSourceAgain() {
+        // Arrange
+        this.senderMapper.map(new Object());
+
+        // Act
+        this.senderMapper.map(new Object());
+
+        // Assert
+        assertThat(this.mappings.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testMemoExpires() {
+        // Arrange
+        final Object source = new Object();
+        this.senderMapper.map(source);
+
+        // Act
+        this.ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(MemoizingSenderMapper.SCOPE_MILLIS));
+        this.senderMapper.map(source);
+
+        // Assert
+        assertThat(this.mappings.get()).isEqualTo(2);
+    }
+}
@@ -6,6 +6,7 @@ plugins {
 dependencies {
     api(libs.cloud.core)
     api(projects.cloudBrigadier)
+    implementation(projects.cloudMinecraftCommon)
     compileOnly(libs.bukkit)
     compileOnly(libs.commodore)
     testImplementation(libs.bukkit)
@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.bukkit;
 
+import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import org.apiguardian.api.API;
@@ -39,7 +41,10 @@ import org.incendo.cloud.brigadier.BrigadierManagerHolder;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
 import org.incendo.cloud.execution.ExecutionCoordinator;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.minecraft.suggestion.CachingSuggestionFactory;
 import org.incendo.cloud.state.RegistrationState;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionFactory;
 
 /**
  * Base {@link CommandManager} implementation for Bukkit-based platforms.
@@ -53,6 +58,8 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C> implemen
     private final SenderMapper<CommandSender, C> senderMapper;
 
     private boolean splitAliases = false;
+    private volatile CommandResendPolicy commandResendPolicy = CommandResendPolicy.immediate();
+    private volatile @Nullable SuggestionFactory<C, ? extends Suggestion> tabCompletionSuggestionFactory = null;
 
     /**
      * Create a new Bukkit command manager. {@link BukkitCommandManager} is not intended to be created and used directly.
@@ -126,6 +133,61 @@ public abstract class BukkitCommandManager<C> extends CommandManager<C> implemen
         return this.senderMapper.reverse(sender).hasPermission(permission);
     }
 
+    /**
+     * Enables caching of the suggestions that are produced for tab completion requests that are handled by Bukkit or by
+     * Paper's asynchronous tab completion event. Results are cached per sender and input up to the last token boundary, and
+     * suggestions for a token that is being typed are produced by filtering the cached suggestions.
+     *
+     * <p>This should only be enabled if the suggestion providers do not depend on the partial token that is being completed,
+     * see {@link CachingSuggestionFactory}. Suggestions that are requested through Brigadier are cached separately, using
+     * {@link CloudBrigadierManager#cacheSuggestions(int, Duration)}.</p>
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param expireAfter how long a result may be used after it has been computed
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final void cacheSuggestions(final int maximumSize, final @NonNull Duration expireAfter) {
+        this.tabCompletionSuggestionFactory = CachingSuggestionFactory.of(this, this.suggestionFactory(), maximumSize, expireAfter);
+    }
+
+    /**
+     * Returns the suggestion factory that is used for tab completion requests that are handled by the platform.
+     *
+     * @return the suggestion factory
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public final @NonNull SuggestionFactory<C, ? extends Suggestion> tabCompletionSuggestionFactory() {
+        final SuggestionFactory<C, ? extends Suggestion> suggestionFactory = this.tabCompletionSuggestionFactory;
+        if (suggestionFactory != null) {
+            return suggestionFactory;
+        }
+        return this.suggestionFactory();
+    }
+
+    /**
+     * Returns the policy that controls how the command tree is sent to online players after it changed.
+     *
+     * @return the policy
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final @NonNull CommandResendPolicy commandResendPolicy() {
+        return this.commandResendPolicy;
+    }
+
+    /**
+     * Sets the policy that controls how the command tree is sent to online players after it changed. Defaults to
+     * {@link CommandResendPolicy#immediate()}.
+     *
+     * @param policy the policy
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final void commandResendPolicy(final @NonNull CommandResendPolicy policy) {
+        this.commandResendPolicy = Objects.requireNonNull(policy, "policy");
+    }
+
     @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
     protected final boolean splitAliases() {
         return this.splitAliases;
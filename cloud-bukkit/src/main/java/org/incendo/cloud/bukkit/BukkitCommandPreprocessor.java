@@ -23,9 +23,11 @@
 //
 package org.incendo.cloud.bukkit;
 
+import java.util.concurrent.Executor;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
 import org.incendo.cloud.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
 import org.incendo.cloud.context.CommandContext;
@@ -42,6 +44,7 @@ final class BukkitCommandPreprocessor<C> implements CommandPreprocessor<C> {
 
     private final BukkitCommandManager<C> commandManager;
     private final @Nullable BukkitBackwardsBrigadierSenderMapper<C, ?> mapper;
+    private volatile @MonotonicNonNull Executor mainThreadExecutor;
 
     /**
      * The Bukkit Command Preprocessor for storing Bukkit-specific contexts in the command contexts
@@ -60,25 +63,31 @@ final class BukkitCommandPreprocessor<C> implements CommandPreprocessor<C> {
 
     @Override
     public void accept(final @NonNull CommandPreprocessingContext<C> context) {
-        if (this.mapper != null) {
+        final CommandContext<C> commandContext = context.commandContext();
+        final BukkitBackwardsBrigadierSenderMapper<C, ?> mapper = this.mapper;
+        if (mapper != null) {
             // If the server is Brigadier capable but the Brigadier manager has not been registered, store the native
             // sender in context manually so that getting suggestions from WrappedBrigadierParser works like expected.
-            if (!context.commandContext().contains(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)) {
-                context.commandContext().store(
-                        WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER,
-                        this.mapper.apply(context.commandContext().sender())
-                );
-            }
+            // The sender is only converted when a parser asks for it, as the conversion is reflective.
+            NativeSenders.storeSupplier(commandContext, () -> mapper.apply(commandContext.sender()));
         }
-        context.commandContext().store(
+        commandContext.store(
                 BukkitCommandContextKeys.BUKKIT_COMMAND_SENDER,
-                this.commandManager.senderMapper().reverse(context.commandContext().sender())
+                this.commandManager.senderMapper().reverse(commandContext.sender())
         );
 
         // Store if PaperCommandManager's preprocessor didn't already
-        context.commandContext().computeIfAbsent(
-                BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR,
-                $ -> BukkitHelper.mainThreadExecutor(this.commandManager)
-        );
+        if (!commandContext.contains(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR)) {
+            commandContext.store(BukkitCommandContextKeys.SENDER_SCHEDULER_EXECUTOR, this.mainThreadExecutor());
+        }
+    }
+
+    private @NonNull Executor mainThreadExecutor() {
+        Executor executor = this.mainThreadExecutor;
+        if (executor == null) {
+            executor = BukkitHelper.mainThreadExecutor(this.commandManager);
+            this.mainThreadExecutor = executor;
+        }
+        return executor;
     }
 }
@@ -43,15 +43,24 @@ import org.bukkit.entity.Player;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
+import org.incendo.cloud.bukkit.internal.CommandResendScheduler;
+import org.incendo.cloud.bukkit.internal.CommandTreeSync;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
 import org.incendo.cloud.setting.ManagerSetting;
 
 @API(status = API.Status.INTERNAL)
-public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHandler<C> {
+public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHandler<C>, CommandTreeSync.Holder {
 
     private final Map<CommandComponent<C>, RegisteredCommandData<C>> registeredCommands = new HashMap<>();
     private final Set<String> recognizedAliases = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final CommandResendScheduler<Player> resendScheduler = new CommandResendScheduler<>(
+            Bukkit::getOnlinePlayers,
+            Player::updateCommands,
+            task -> Bukkit.getScheduler().runTask(this.bukkitCommandManager.owningPlugin(), task),
+            () -> this.bukkitCommandManager.commandResendPolicy()
+    );
+    private final CommandTreeSync commandTreeSync = new CommandTreeSync(this.resendScheduler::invalidate);
 
     private Map<String, org.bukkit.command.Command> bukkitCommands;
     private BukkitCommandManager<C> bukkitCommandManager;
@@ -153,10 +162,15 @@ public class BukkitPluginRegistrationHandler<C> implements CommandRegistrationHa
 
         if (this.bukkitCommandManager.hasCapability(CloudBukkitCapabilities.BRIGADIER)) {
             // Once the command has been unregistered, we need to refresh the command list for all online players.
-            Bukkit.getOnlinePlayers().forEach(Player::updateCommands);
+            this.commandTreeSync.invalidate();
         }
     }
 
+    @Override
+    public final @NonNull CommandTreeSync commandTreeSync() {
+        return this.commandTreeSync;
+    }
+
     /**
      * Check if the given alias is recognizable by this registration handler
      *
@@ -27,20 +27,25 @@ import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import com.mojang.brigadier.tree.RootCommandNode;
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import me.lucko.commodore.Commodore;
 import me.lucko.commodore.CommodoreProvider;
-import org.bukkit.command.CommandSender;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.incendo.cloud.Command;
 import org.incendo.cloud.SenderMapper;
+import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.brigadier.util.BrigadierUtil;
 import org.incendo.cloud.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import org.incendo.cloud.bukkit.internal.BukkitBrigadierMapper;
+import org.incendo.cloud.bukkit.internal.BukkitSenderAccessor;
+import org.incendo.cloud.bukkit.internal.ReflectionHandles;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
 class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
@@ -48,20 +53,38 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
     private final BukkitCommandManager<C> commandManager;
     private final CloudBrigadierManager<C, Object> brigadierManager;
     private final Commodore commodore;
+    private final Map<String, BrigadierPermissionChecker<C>> permissionCheckers = new HashMap<>();
+    private final Map<String, String> canonicalLabels = new HashMap<>();
+    private final MethodHandle getDispatcherMethod;
+    private final MethodHandle removeChildMethod;
+    private final MethodHandle registeredNodesGetter;
 
     CloudCommodoreManager(final @NonNull BukkitCommandManager<C> commandManager) {
         if (!CommodoreProvider.isSupported()) {
             throw new IllegalStateException("CommodoreProvider reports isSupported = false");
         }
+        BukkitSenderAccessor.checkAvailable();
         this.commandManager = commandManager;
         this.commodore = CommodoreProvider.getCommodore(commandManager.owningPlugin());
+
+        final Class<?> commodoreImpl = this.commodore.getClass();
+        try {
+            this.getDispatcherMethod = ReflectionHandles.handle(commodoreImpl.getDeclaredMethod("getDispatcher"))
+                    .bindTo(this.commodore);
+            this.removeChildMethod = ReflectionHandles.handle(findRemoveChildMethod(commodoreImpl));
+            this.registeredNodesGetter = ReflectionHandles.getter(commodoreImpl.getDeclaredField("registeredNodes"))
+                    .bindTo(this.commodore);
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            throw new IllegalStateException(
+                    String.format("Unsupported commodore implementation '%s'", commodoreImpl.getName()),
+                    ex
+            );
+        }
+
         this.brigadierManager = new CloudBrigadierManager<>(
                 commandManager,
                 SenderMapper.create(
-                        sender -> {
-                            final CommandSender bukkitSender = getBukkitSender(sender);
-                            return this.commandManager.senderMapper().map(bukkitSender);
-                        },
+                        sender -> this.commandManager.senderMapper().map(BukkitSenderAccessor.bukkitSender(sender)),
                         new BukkitBackwardsBrigadierSenderMapper<>(this.commandManager.senderMapper())
                 )
         );
@@ -93,16 +116,29 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
             final @NonNull String label,
             final @NonNull Command<C> command
     ) {
-        final LiteralCommandNode<?> literalCommandNode = this.brigadierManager.literalBrigadierNodeFactory()
-                .createNode(label, command, o -> 1, (sender, commandPermission) -> {
-                    // We need to check that the command still exists...
-                    if (this.commandManager.commandTree().getNamedNode(label) == null) {
-                        return false;
-                    }
-
-                    return this.commandManager.testPermission(sender, commandPermission).allowed();
-                });
+        final String name = command.rootComponent().name();
         final CommandNode existingNode = this.getDispatcher().findNode(Collections.singletonList(label));
+        if (this.brigadierManager.settings().get(BrigadierSetting.REDIRECT_ALIASES)) {
+            if (existingNode != null && existingNode.getRedirect() != null) {
+                // The alias redirects to the canonical node, which the children are merged into.
+                return;
+            }
+            final String canonicalLabel = this.canonicalLabels.get(name);
+            final CommandNode canonicalNode = canonicalLabel == null || canonicalLabel.equals(label)
+                    ? null
+                    : this.getDispatcher().findNode(Collections.singletonList(canonicalLabel));
+            if (existingNode == null && canonicalNode != null) {
+                this.commodore.register(BrigadierUtil.buildAliasRedirect(label, canonicalNode));
+                return;
+            }
+            this.canonicalLabels.putIfAbsent(name, label);
+        }
+
+        final LiteralCommandNode<?> literalCommandNode = this.brigadierManager.literalBrigadierNodeFactory()
+                .createNode(label, command, o -> 1, this.permissionCheckers.computeIfAbsent(
+                        label,
+                        this::createPermissionChecker
+                ));
         if (existingNode != null) {
             this.mergeChildren(existingNode, literalCommandNode);
         } else {
@@ -110,9 +146,29 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
         }
     }
 
+    /**
+     * Creates the permission checker for the root command with the given {@code label}. The checkers are reused between
+     * registrations, so that the nodes of the root can be reused by incremental builds.
+     *
+     * @param label the label of the root command
+     * @return the permission checker
+     */
+    private @NonNull BrigadierPermissionChecker<C> createPermissionChecker(final @NonNull String label) {
+        return (sender, commandPermission) -> {
+            // We need to check that the command still exists...
+            if (this.commandManager.commandTree().getNamedNode(label) == null) {
+                return false;
+            }
+
+            return this.commandManager.testPermission(sender, commandPermission).allowed();
+        };
+    }
+
     private void unregisterWithCommodore(
             final @NonNull String label
     ) {
+        this.canonicalLabels.values().remove(label);
+        this.permissionCheckers.remove(label);
         final CommandDispatcher<?> dispatcher = this.getDispatcher();
         final CommandNode node = dispatcher.findNode(Collections.singletonList(label));
         if (node == null) {
@@ -120,28 +176,12 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
         }
 
         try {
-            final Class<?> commodoreImpl = this.commodore.getClass();
-
-            Method removeChild;
-            try {
-                removeChild = commodoreImpl.getDeclaredMethod("removeChild", RootCommandNode.class, String.class);
-            } catch (final NoSuchMethodException ex) {
-                removeChild = commodoreImpl.getSuperclass().getDeclaredMethod("removeChild", RootCommandNode.class, String.class);
-            }
-            removeChild.setAccessible(true);
-
-            removeChild.invoke(
-                    null /* static method */,
-                    dispatcher.getRoot(),
-                    node.getName()
-            );
-
-            final Field registeredNodesField = commodoreImpl.getDeclaredField("registeredNodes");
-            registeredNodesField.setAccessible(true);
-
-            final List<?> registeredNodes = (List<?>) registeredNodesField.get(this.commodore);
+            final Object unused = (Object) this.removeChildMethod.invokeExact((Object) dispatcher.getRoot(), (Object) node.getName());
+            final List<?> registeredNodes = (List<?>) (Object) this.registeredNodesGetter.invokeExact();
             registeredNodes.remove(node);
-        } catch (final Exception e) {
+        } catch (final Error e) {
+            throw e;
+        } catch (final Throwable e) {
             throw new RuntimeException(String.format("Failed to unregister command '%s' with commodore", label), e);
         }
     }
@@ -151,7 +191,7 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
             final CommandNode<?> existingChild = existingNode.getChild(child.getName());
             if (existingChild == null) {
                 existingNode.addChild(child);
-            } else {
+            } else if (existingChild != child) {
                 this.mergeChildren(existingChild, child);
             }
         }
@@ -159,22 +199,17 @@ class CloudCommodoreManager<C> extends BukkitPluginRegistrationHandler<C> {
 
     private CommandDispatcher<?> getDispatcher() {
         try {
-            final Method getDispatcherMethod = this.commodore.getClass().getDeclaredMethod("getDispatcher");
-            getDispatcherMethod.setAccessible(true);
-            return (CommandDispatcher<?>) getDispatcherMethod.invoke(this.commodore);
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
+            return (CommandDispatcher<?>) (Object) this.getDispatcherMethod.invokeExact();
+        } catch (final Throwable ex) {
+            throw ReflectionHandles.rethrow(ex);
         }
     }
 
-    private static CommandSender getBukkitSender(final @NonNull Object commandSourceStack) {
-        Objects.requireNonNull(commandSourceStack, "commandSourceStack");
+    private static Method findRemoveChildMethod(final @NonNull Class<?> commodoreImpl) throws NoSuchMethodException {
         try {
-            final Method getBukkitSenderMethod = commandSourceStack.getClass().getDeclaredMethod("getBukkitSender");
-            getBukkitSenderMethod.setAccessible(true);
-            return (CommandSender) getBukkitSenderMethod.invoke(commandSourceStack);
-        } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
+            return commodoreImpl.getDeclaredMethod("removeChild", RootCommandNode.class, String.class);
+        } catch (final NoSuchMethodException ex) {
+            return commodoreImpl.getSuperclass().getDeclaredMethod("removeChild", RootCommandNode.class, String.class);
         }
     }
 }
@@ -0,0 +1,156 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Controls how the command tree is sent to online players after commands are registered or unregistered while the
+ * server is running.
+ *
+ * <p>With the {@link #immediate()} policy, every player receives the updated tree right away. A {@link #staggered(long, int)}
+ * policy waits until no further changes have been made for a number of ticks, and then spreads the updates over
+ * several ticks, so that frequent changes don't make every player rebuild the tree in the same tick. A steady stream of
+ * changes does not postpone the updates indefinitely, as they start at the latest once the
+ * {@link #maxDelayTicks() maximum delay} has passed since the first change that has not been sent yet.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class CommandResendPolicy {
+
+    private static final CommandResendPolicy IMMEDIATE = new CommandResendPolicy(0L, 0L, Integer.MAX_VALUE);
+    private static final long MAX_DELAY_FACTOR = 5L;
+
+    private final long debounceTicks;
+    private final long maxDelayTicks;
+    private final int playersPerTick;
+
+    private CommandResendPolicy(final long debounceTicks, final long maxDelayTicks, final int playersPerTick) {
+        this.debounceTicks = debounceTicks;
+        this.maxDelayTicks = maxDelayTicks;
+        this.playersPerTick = playersPerTick;
+    }
+
+    /**
+     * Returns a policy that sends the command tree to every online player as soon as it changes.
+     *
+     * @return the policy
+     */
+    public static @NonNull CommandResendPolicy immediate() {
+        return IMMEDIATE;
+    }
+
+    /**
+     * Returns a policy that sends the command tree once no changes have been made for {@code debounceTicks} ticks, to at
+     * most {@code playersPerTick} players per tick. The tree is sent at the latest five times {@code debounceTicks} ticks
+     * after the first change that has not been sent yet.
+     *
+     * @param debounceTicks  the number of ticks without changes to wait for, the tree is sent on the next tick at the
+     *                       earliest
+     * @param playersPerTick the maximum number of players to send the tree to per tick
+     * @return the policy
+     * @throws IllegalArgumentException if {@code debounceTicks} is negative or {@code playersPerTick} is not positive
+     */
+    public static @NonNull CommandResendPolicy staggered(final long debounceTicks, final int playersPerTick) {
+        final long maxDelayTicks = debounceTicks > Long.MAX_VALUE / MAX_DELAY_FACTOR
+                ? Long.MAX_VALUE
+                : debounceTicks * MAX_DELAY_FACTOR;
+        return staggered(debounceTicks, maxDelayTicks, playersPerTick);
+    }
+
+    /**
+     * Returns a policy that sends the command tree once no changes have been made for {@code debounceTicks} ticks, or once
+     * {@code maxDelayTicks} ticks have passed since the first change that has not been sent yet, to at most
+     * {@code playersPerTick} players per tick.
+     *
+     * @param debounceTicks  the number of ticks without changes to wait for, the tree is sent on the next tick at the
+     *                       earliest
+     * @param maxDelayTicks  the maximum number of ticks to wait for after the first change that has not been sent yet
+     * @param playersPerTick the maximum number of players to send the tree to per tick
+     * @return the policy
+     * @throws IllegalArgumentException if {@code debounceTicks} is negative, {@code maxDelayTicks} is less than
+     *                                  {@code debounceTicks} or {@code playersPerTick} is not positive
+     */
+    public static @NonNull CommandResendPolicy staggered(
+            final long debounceTicks,
+            final long maxDelayTicks,
+            final int playersPerTick
+    ) {
+        if (debounceTicks < 0) {
+            throw new IllegalArgumentException("debounceTicks must not be negative: " + debounceTicks);
+        }
+        if (maxDelayTicks < debounceTicks) {
+            throw new IllegalArgumentException("maxDelayTicks must not be less than debounceTicks: " + maxDelayTicks);
+        }
+        if (playersPerTick < 1) {
+            throw new IllegalArgumentException("playersPerTick must be positive: " + playersPerTick);
+        }
+        return new CommandResendPolicy(debounceTicks, maxDelayTicks, playersPerTick);
+    }
+
+    /**
+     * Returns whether the tree is sent as soon as it changes.
+     *
+     * @return whether the policy is {@link #immediate()}
+     */
+    public boolean isImmediate() {
+        return this == IMMEDIATE;
+    }
+
+    /**
+     * Returns the number of ticks without changes to wait for before the tree is sent.
+     *
+     * @return the debounce window in ticks
+     */
+    public long debounceTicks() {
+        return this.debounceTicks;
+    }
+
+    /**
+     * Returns the maximum number of ticks to wait for after the first change that has not been sent yet, even if further
+     * changes are made within the debounce window.
+     *
+     * @return the maximum delay in ticks
+     */
+    public long maxDelayTicks() {
+        return this.maxDelayTicks;
+    }
+
+    /**
+     * Returns the maximum number of players that the tree is sent to per tick.
+     *
+     * @return the per-tick budget
+     */
+    public int playersPerTick() {
+        return this.playersPerTick;
+    }
+
+    @Override
+    public String toString() {
+        return "CommandResendPolicy{debounceTicks=" + this.debounceTicks + ", maxDelayTicks=" + this.maxDelayTicks
+                + ", playersPerTick=" + this.playersPerTick + "}";
+    }
+}
@@ -0,0 +1,75 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.bukkit.internal.CommandTreeSync;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+
+/**
+ * A batch of command registrations and unregistrations.
+ *
+ * <p>While a batch is open, the changes are still applied to the command map and the Brigadier dispatcher right away,
+ * but the updated command tree is not sent to online players. Closing the batch sends the tree once to every player,
+ * if any of the changes required it. Batches may be nested, in which case the tree is sent when the outermost batch
+ * is closed.</p>
+ *
+ * <pre>{@code
+ * try (RegistrationBatch batch = RegistrationBatch.begin(manager)) {
+ *     manager.deleteRootCommand("arena-1");
+ *     manager.command(manager.commandBuilder("arena-2"));
+ * }
+ * }</pre>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public interface RegistrationBatch extends AutoCloseable {
+
+    /**
+     * Begins a batch for the given {@code manager}.
+     *
+     * <p>If the registration handler of the manager does not send command trees to players, a batch that does
+     * nothing is returned.</p>
+     *
+     * @param manager the command manager
+     * @return the batch
+     */
+    static @NonNull RegistrationBatch begin(final @NonNull CommandManager<?> manager) {
+        final CommandRegistrationHandler<?> handler = manager.commandRegistrationHandler();
+        if (handler instanceof CommandTreeSync.Holder) {
+            return ((CommandTreeSync.Holder) handler).commandTreeSync().begin();
+        }
+        return () -> {
+        };
+    }
+
+    /**
+     * Closes the batch. Closing a batch more than once has no effect.
+     */
+    @Override
+    void close();
+}
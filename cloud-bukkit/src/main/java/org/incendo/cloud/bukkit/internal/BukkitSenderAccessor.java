@@ -0,0 +1,95 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.bukkit.command.CommandSender;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Resolves the Bukkit {@link CommandSender} of a native {@code CommandSourceStack}.
+ *
+ * <p>The accessor is resolved once, when this class is initialized. Callers should invoke {@link #checkAvailable()}
+ * while setting up, so that a missing accessor is reported there rather than on the first command.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class BukkitSenderAccessor {
+
+    private static final @Nullable MethodHandle GET_BUKKIT_SENDER_METHOD;
+    private static final @Nullable RuntimeException FAILURE;
+
+    static {
+        MethodHandle getBukkitSender = null;
+        RuntimeException failure = null;
+        try {
+            final Class<?> commandSourceStackClass = CraftBukkitReflection.firstNonNullOrThrow(
+                    () -> "Couldn't find CommandSourceStack class",
+                    CraftBukkitReflection.findNMSClass("CommandListenerWrapper"),
+                    CraftBukkitReflection.findMCClass("commands.CommandListenerWrapper"),
+                    CraftBukkitReflection.findMCClass("commands.CommandSourceStack")
+            );
+            getBukkitSender = CraftBukkitReflection.needMethodHandle(commandSourceStackClass, "getBukkitSender");
+        } catch (final RuntimeException ex) {
+            failure = ex;
+        }
+        GET_BUKKIT_SENDER_METHOD = getBukkitSender;
+        FAILURE = failure;
+    }
+
+    private BukkitSenderAccessor() {
+    }
+
+    /**
+     * Throws if the accessor could not be resolved on this server.
+     *
+     * @throws IllegalStateException if {@code CommandSourceStack#getBukkitSender} could not be found
+     */
+    public static void checkAvailable() throws IllegalStateException {
+        if (FAILURE != null) {
+            throw new IllegalStateException("Could not find CommandSourceStack#getBukkitSender", FAILURE);
+        }
+    }
+
+    /**
+     * Returns the Bukkit sender of the given {@code commandSourceStack}.
+     *
+     * @param commandSourceStack the native command source
+     * @return the Bukkit sender
+     * @throws IllegalStateException if the accessor is not available, see {@link #checkAvailable()}
+     */
+    public static @NonNull CommandSender bukkitSender(final @NonNull Object commandSourceStack) {
+        Objects.requireNonNull(commandSourceStack, "commandSourceStack");
+        checkAvailable();
+        try {
+            return (CommandSender) (Object) GET_BUKKIT_SENDER_METHOD.invokeExact(commandSourceStack);
+        } catch (final Throwable ex) {
+            throw ReflectionHandles.rethrow(ex);
+        }
+    }
+}
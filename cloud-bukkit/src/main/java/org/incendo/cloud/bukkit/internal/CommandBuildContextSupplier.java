@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.bukkit.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -115,25 +116,34 @@ public final class CommandBuildContextSupplier {
         }
     }
 
+    private static final @Nullable MethodHandle COMMAND_BUILD_CONTEXT_CTR_HANDLE = COMMAND_BUILD_CONTEXT_CTR == null
+            ? null
+            : ReflectionHandles.handle(COMMAND_BUILD_CONTEXT_CTR);
+    private static final @Nullable MethodHandle CREATE_CONTEXT_HANDLE = ReflectionHandles.handleOrNull(CREATE_CONTEXT_METHOD);
+    private static final @Nullable MethodHandle GET_WORLD_DATA_HANDLE = ReflectionHandles.handleOrNull(GET_WORLD_DATA_METHOD);
+    private static final @Nullable MethodHandle GET_FEATURE_FLAGS_HANDLE = ReflectionHandles.handleOrNull(GET_FEATURE_FLAGS_METHOD);
+    private static final MethodHandle GET_SERVER_HANDLE = ReflectionHandles.handle(GET_SERVER_METHOD);
+    private static final MethodHandle REGISTRY_ACCESS_HANDLE = ReflectionHandles.handle(REGISTRY_ACCESS);
+
     private CommandBuildContextSupplier() {
     }
 
     public static Object commandBuildContext() {
-        if (COMMAND_BUILD_CONTEXT_CTR != null) {
+        if (COMMAND_BUILD_CONTEXT_CTR_HANDLE != null) {
             try {
-                final Object server = GET_SERVER_METHOD.invoke(null);
-                return COMMAND_BUILD_CONTEXT_CTR.newInstance(REGISTRY_ACCESS.invoke(server));
-            } catch (final ReflectiveOperationException e) {
-                throw new RuntimeException(e);
+                final Object server = (Object) GET_SERVER_HANDLE.invokeExact();
+                return (Object) COMMAND_BUILD_CONTEXT_CTR_HANDLE.invokeExact((Object) REGISTRY_ACCESS_HANDLE.invokeExact(server));
+            } catch (final Throwable e) {
+                throw ReflectionHandles.rethrow(e);
             }
-        } else if (CREATE_CONTEXT_METHOD != null && GET_WORLD_DATA_METHOD != null && GET_FEATURE_FLAGS_METHOD != null) {
+        } else if (CREATE_CONTEXT_HANDLE != null && GET_WORLD_DATA_HANDLE != null && GET_FEATURE_FLAGS_HANDLE != null) {
             try {
-                final Object server = GET_SERVER_METHOD.invoke(null);
-                final Object worldData = GET_WORLD_DATA_METHOD.invoke(server);
-                final Object flags = GET_FEATURE_FLAGS_METHOD.invoke(worldData);
-                return CREATE_CONTEXT_METHOD.invoke(null, REGISTRY_ACCESS.invoke(server), flags);
-            } catch (final ReflectiveOperationException e) {
-                throw new RuntimeException(e);
+                final Object server = (Object) GET_SERVER_HANDLE.invokeExact();
+                final Object worldData = (Object) GET_WORLD_DATA_HANDLE.invokeExact(server);
+                final Object flags = (Object) GET_FEATURE_FLAGS_HANDLE.invokeExact(worldData);
+                return (Object) CREATE_CONTEXT_HANDLE.invokeExact((Object) REGISTRY_ACCESS_HANDLE.invokeExact(server), flags);
+            } catch (final Throwable e) {
+                throw ReflectionHandles.rethrow(e);
             }
         } else {
             throw new IllegalStateException();
@@ -0,0 +1,144 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.CommandResendPolicy;
+
+/**
+ * Sends the command tree to online players according to a {@link CommandResendPolicy}.
+ *
+ * <p>Staggered resends are driven by {@link #tick()}, which is scheduled through the {@code nextTick} function while
+ * there is work left, so that no task runs while the tree is unchanged. Players that are still waiting for the tree when
+ * it changes again only receive it once. The tree is sent to the players outside the monitor of the scheduler.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ *
+ * @param <P> player type
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class CommandResendScheduler<P> {
+
+    private final Supplier<? extends Collection<? extends P>> players;
+    private final Consumer<P> resend;
+    private final Consumer<Runnable> nextTick;
+    private final Supplier<CommandResendPolicy> policy;
+    private final Set<P> queue = new LinkedHashSet<>();
+
+    private long currentTick;
+    private long changedAt;
+    private long pendingSince;
+    private boolean pending;
+    private boolean ticking;
+
+    /**
+     * Creates a new scheduler.
+     *
+     * @param players  supplies the online players
+     * @param resend   sends the command tree to a player
+     * @param nextTick runs a task on the next server tick
+     * @param policy   supplies the current policy
+     */
+    public CommandResendScheduler(
+            final @NonNull Supplier<? extends Collection<? extends P>> players,
+            final @NonNull Consumer<P> resend,
+            final @NonNull Consumer<Runnable> nextTick,
+            final @NonNull Supplier<CommandResendPolicy> policy
+    ) {
+        this.players = players;
+        this.resend = resend;
+        this.nextTick = nextTick;
+        this.policy = policy;
+    }
+
+    /**
+     * Marks the command tree as changed.
+     */
+    public void invalidate() {
+        final List<P> players;
+        synchronized (this) {
+            if (!this.policy.get().isImmediate() || this.ticking) {
+                if (!this.pending) {
+                    this.pending = true;
+                    this.pendingSince = this.currentTick;
+                }
+                this.changedAt = this.currentTick;
+                if (!this.ticking) {
+                    this.ticking = true;
+                    this.nextTick.accept(this::runTick);
+                }
+                return;
+            }
+            players = new ArrayList<>(this.players.get());
+        }
+        players.forEach(this.resend);
+    }
+
+    /**
+     * Advances the scheduler by one tick, and returns the players to send the tree to in this tick, which are at most
+     * {@link CommandResendPolicy#playersPerTick()} players.
+     *
+     * @return the players to send the tree to
+     */
+    private synchronized @NonNull List<P> tick() {
+        this.currentTick++;
+        final CommandResendPolicy policy = this.policy.get();
+        if (this.pending && (this.currentTick - this.changedAt >= policy.debounceTicks()
+                || this.currentTick - this.pendingSince >= policy.maxDelayTicks())) {
+            this.pending = false;
+            this.queue.addAll(this.players.get());
+        }
+        final List<P> batch = new ArrayList<>(Math.min(policy.playersPerTick(), this.queue.size()));
+        final Iterator<P> iterator = this.queue.iterator();
+        while (batch.size() < policy.playersPerTick() && iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        this.ticking = this.pending || !this.queue.isEmpty();
+        return batch;
+    }
+
+    private void runTick() {
+        final List<P> batch;
+        final boolean again;
+        synchronized (this) {
+            batch = this.tick();
+            again = this.ticking;
+        }
+        // The tree is sent outside the monitor, so that invalidations from other threads don't wait for the sends.
+        batch.forEach(this.resend);
+        if (again) {
+            this.nextTick.accept(this::runTick);
+        }
+    }
+}
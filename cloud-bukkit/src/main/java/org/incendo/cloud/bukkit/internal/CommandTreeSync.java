@@ -0,0 +1,107 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.bukkit.RegistrationBatch;
+
+/**
+ * Coalesces the command tree updates that are sent to players after commands are registered or unregistered.
+ *
+ * <p>Changes are sent right away, unless a {@link RegistrationBatch} is open, in which case a single update is sent
+ * when the outermost batch is closed.</p>
+ *
+ * <p>This is not API, and as such, may break, change, or be removed without any notice.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class CommandTreeSync {
+
+    private final Runnable resend;
+    private int openBatches;
+    private boolean dirty;
+
+    /**
+     * Creates a new sync.
+     *
+     * @param resend sends the command tree to all online players
+     */
+    public CommandTreeSync(final @NonNull Runnable resend) {
+        this.resend = resend;
+    }
+
+    /**
+     * Marks the command tree as changed.
+     */
+    public void invalidate() {
+        synchronized (this) {
+            if (this.openBatches > 0) {
+                this.dirty = true;
+                return;
+            }
+        }
+        this.resend.run();
+    }
+
+    /**
+     * Begins a batch, see {@link RegistrationBatch}.
+     *
+     * @return the batch
+     */
+    public synchronized @NonNull RegistrationBatch begin() {
+        this.openBatches++;
+        final AtomicBoolean closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                this.end();
+            }
+        };
+    }
+
+    private void end() {
+        synchronized (this) {
+            if (--this.openBatches > 0 || !this.dirty) {
+                return;
+            }
+            this.dirty = false;
+        }
+        this.resend.run();
+    }
+
+
+    /**
+     * Implemented by registration handlers that send command trees to players.
+     */
+    @API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+    public interface Holder {
+
+        /**
+         * Returns the sync of the handler.
+         *
+         * @return the sync
+         */
+        @NonNull CommandTreeSync commandTreeSync();
+    }
+}
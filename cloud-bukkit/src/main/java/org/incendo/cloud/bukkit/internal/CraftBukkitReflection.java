@@ -23,6 +23,7 @@
 //
 package org.incendo.cloud.bukkit.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -231,6 +232,39 @@ public final class CraftBukkitReflection {
         }
     }
 
+    /**
+     * Returns a handle for the public method with the given {@code name} and {@code params}, see {@link ReflectionHandles}.
+     *
+     * @param holder the class that declares the method
+     * @param name   the method name
+     * @param params the parameter types
+     * @return the handle, or {@code null} if the method does not exist
+     */
+    public static @Nullable MethodHandle findMethodHandle(
+            final @NonNull Class<?> holder,
+            final @NonNull String name,
+            final @NonNull Class<?>... params
+    ) throws RuntimeException {
+        return ReflectionHandles.handleOrNull(findMethod(holder, name, params));
+    }
+
+    /**
+     * Returns a handle for the public method with the given {@code name} and {@code params}, see {@link ReflectionHandles}.
+     *
+     * @param holder the class that declares the method
+     * @param name   the method name
+     * @param params the parameter types
+     * @return the handle
+     * @throws RuntimeException if the method does not exist
+     */
+    public static @NonNull MethodHandle needMethodHandle(
+            final @NonNull Class<?> holder,
+            final @NonNull String name,
+            final @NonNull Class<?>... params
+    ) throws RuntimeException {
+        return ReflectionHandles.handle(needMethod(holder, name, params));
+    }
+
     public static Stream<Method> streamMethods(final @NonNull Class<?> clazz) {
         return Arrays.stream(clazz.getDeclaredMethods());
     }
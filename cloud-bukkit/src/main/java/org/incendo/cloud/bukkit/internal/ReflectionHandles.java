@@ -0,0 +1,160 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Converts the reflective objects that are found by {@link CraftBukkitReflection} into {@link MethodHandle}s with erased
+ * types, which are cheaper to invoke than {@link Method#invoke(Object, Object...)} once the JIT has compiled the caller.
+ *
+ * <p>Every handle takes and returns {@link Object}s. Instance methods and instance field getters take the receiver as
+ * their first argument. Handles should be stored in {@code static final} fields and invoked through
+ * {@link MethodHandle#invokeExact(Object...)} with every argument and the result cast to {@link Object}, such as
+ * {@code (Object) HANDLE.invokeExact((Object) receiver)}, as this lets the JIT inline the target.</p>
+ *
+ * <p>Like {@link Method#invoke(Object, Object...)}, the handles of methods and constructors wrap every exception that is
+ * thrown by their target in an {@link InvocationTargetException}, so callers that are interested in a specific exception,
+ * such as a {@code CommandSyntaxException}, should check {@link InvocationTargetException#getCause()}. Other failures to
+ * invoke a handle should be wrapped using {@link #rethrow(Throwable)}.</p>
+ */
+@API(status = API.Status.INTERNAL, consumers = "org.incendo.cloud.*")
+public final class ReflectionHandles {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle THROW_TARGET_EXCEPTION;
+
+    static {
+        try {
+            THROW_TARGET_EXCEPTION = LOOKUP.findStatic(
+                    ReflectionHandles.class,
+                    "throwTargetException",
+                    MethodType.methodType(Object.class, Throwable.class)
+            );
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ReflectionHandles() {
+    }
+
+    /**
+     * Returns a handle that invokes the given {@code method}.
+     *
+     * @param method the method
+     * @return the handle
+     * @throws RuntimeException if the method cannot be accessed
+     */
+    public static @NonNull MethodHandle handle(final @NonNull Method method) throws RuntimeException {
+        method.setAccessible(true);
+        final int arity = method.getParameterCount() + (Modifier.isStatic(method.getModifiers()) ? 0 : 1);
+        try {
+            return wrapTargetExceptions(LOOKUP.unreflect(method).asType(MethodType.genericMethodType(arity)));
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns a handle that invokes the given {@code method}, or {@code null} if the method is {@code null}.
+     *
+     * @param method the method
+     * @return the handle, or {@code null}
+     * @throws RuntimeException if the method cannot be accessed
+     */
+    public static @Nullable MethodHandle handleOrNull(final @Nullable Method method) throws RuntimeException {
+        return method == null ? null : handle(method);
+    }
+
+    /**
+     * Returns a handle that invokes the given {@code constructor}.
+     *
+     * @param constructor the constructor
+     * @return the handle
+     * @throws RuntimeException if the constructor cannot be accessed
+     */
+    public static @NonNull MethodHandle handle(final @NonNull Constructor<?> constructor) throws RuntimeException {
+        constructor.setAccessible(true);
+        try {
+            return wrapTargetExceptions(LOOKUP.unreflectConstructor(constructor)
+                    .asType(MethodType.genericMethodType(constructor.getParameterCount())));
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns a handle that reads the given {@code field}.
+     *
+     * @param field the field
+     * @return the handle
+     * @throws RuntimeException if the field cannot be accessed
+     */
+    public static @NonNull MethodHandle getter(final @NonNull Field field) throws RuntimeException {
+        field.setAccessible(true);
+        final int arity = Modifier.isStatic(field.getModifiers()) ? 0 : 1;
+        try {
+            return LOOKUP.unreflectGetter(field).asType(MethodType.genericMethodType(arity));
+        } catch (final IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static @NonNull MethodHandle wrapTargetExceptions(final @NonNull MethodHandle handle) {
+        return MethodHandles.catchException(handle, Throwable.class, THROW_TARGET_EXCEPTION);
+    }
+
+    @SuppressWarnings("unused") // invoked through THROW_TARGET_EXCEPTION
+    private static Object throwTargetException(final Throwable throwable) throws InvocationTargetException {
+        throw new InvocationTargetException(throwable);
+    }
+
+    /**
+     * Rethrows the given {@code throwable} if it is unchecked, and returns it wrapped in a {@link RuntimeException}
+     * otherwise, so that callers can write {@code throw ReflectionHandles.rethrow(e)}.
+     *
+     * @param throwable the throwable that was thrown by a handle
+     * @return the wrapped throwable
+     */
+    public static @NonNull RuntimeException rethrow(final @NonNull Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new RuntimeException(throwable);
+    }
+}
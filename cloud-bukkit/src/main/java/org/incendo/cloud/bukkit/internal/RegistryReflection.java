@@ -24,6 +24,7 @@
 package org.incendo.cloud.bukkit.internal;
 
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -55,6 +56,10 @@ public final class RegistryReflection {
             RESOURCE_LOCATION_CLASS,
             String.class
     );
+    private static final MethodHandle RESOURCE_LOCATION_CTR_HANDLE = ReflectionHandles.handle(RESOURCE_LOCATION_CTR);
+    private static final @Nullable MethodHandle REGISTRY_REGISTRY_GETTER;
+    private static final @Nullable MethodHandle REGISTRY_GET_HANDLE;
+    private static final @Nullable MethodHandle REGISTRY_KEY_HANDLE;
 
     private RegistryReflection() {
     }
@@ -91,40 +96,46 @@ public final class RegistryReflection {
                     .findFirst()
                     .orElse(null);
         }
+        REGISTRY_REGISTRY_GETTER = REGISTRY_REGISTRY == null ? null : ReflectionHandles.getter(REGISTRY_REGISTRY);
+        REGISTRY_GET_HANDLE = ReflectionHandles.handleOrNull(REGISTRY_GET);
+        REGISTRY_KEY_HANDLE = ReflectionHandles.handleOrNull(REGISTRY_KEY);
     }
 
     public static Object registryKey(final Object registry) {
-        Objects.requireNonNull(REGISTRY_KEY, "REGISTRY_KEY");
+        Objects.requireNonNull(REGISTRY_KEY_HANDLE, "REGISTRY_KEY");
         try {
-            return REGISTRY_KEY.invoke(registry);
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+            return (Object) REGISTRY_KEY_HANDLE.invokeExact(registry);
+        } catch (final Throwable e) {
+            throw ReflectionHandles.rethrow(e);
         }
     }
 
     public static Object get(final Object registry, final String resourceLocation) {
-        Objects.requireNonNull(REGISTRY_GET, "REGISTRY_GET");
+        Objects.requireNonNull(REGISTRY_GET_HANDLE, "REGISTRY_GET");
+        final Object key = RegistryReflection.createResourceLocation(resourceLocation);
         try {
-            return REGISTRY_GET.invoke(registry, RegistryReflection.createResourceLocation(resourceLocation));
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+            return (Object) REGISTRY_GET_HANDLE.invokeExact(registry, key);
+        } catch (final Throwable e) {
+            throw ReflectionHandles.rethrow(e);
         }
     }
 
     public static Object registryByName(final String name) {
-        Objects.requireNonNull(REGISTRY_REGISTRY, "REGISTRY_REGISTRY");
+        Objects.requireNonNull(REGISTRY_REGISTRY_GETTER, "REGISTRY_REGISTRY");
+        final Object registryRegistry;
         try {
-            return get(REGISTRY_REGISTRY.get(null), name);
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+            registryRegistry = (Object) REGISTRY_REGISTRY_GETTER.invokeExact();
+        } catch (final Throwable e) {
+            throw ReflectionHandles.rethrow(e);
         }
+        return get(registryRegistry, name);
     }
 
     public static Object createResourceLocation(final String str) {
         try {
-            return RESOURCE_LOCATION_CTR.newInstance(str);
-        } catch (final ReflectiveOperationException e) {
-            throw new RuntimeException(e);
+            return (Object) RESOURCE_LOCATION_CTR_HANDLE.invokeExact((Object) str);
+        } catch (final Throwable e) {
+            throw ReflectionHandles.rethrow(e);
         }
     }
 
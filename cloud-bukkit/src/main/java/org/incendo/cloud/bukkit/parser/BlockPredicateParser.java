@@ -25,8 +25,8 @@ package org.incendo.cloud.bukkit.parser;
 
 import com.google.common.base.Suppliers;
 import com.mojang.brigadier.arguments.ArgumentType;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
@@ -37,12 +37,15 @@ import org.bukkit.block.Block;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.BlockPredicate;
 import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
+import org.incendo.cloud.bukkit.internal.ReflectionHandles;
 import org.incendo.cloud.bukkit.internal.RegistryReflection;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
@@ -121,26 +124,32 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
             CraftBukkitReflection.findMCClass("core.BlockPosition"),
             CraftBukkitReflection.findMCClass("core.BlockPos")
     );
-    private static final Constructor<?> BLOCK_POSITION_CTR =
-            CraftBukkitReflection.needConstructor(BLOCK_POSITION_CLASS, int.class, int.class, int.class);
-    private static final Constructor<?> SHAPE_DETECTOR_BLOCK_CTR = CraftBukkitReflection
-            .needConstructor(SHAPE_DETECTOR_BLOCK_CLASS, LEVEL_READER_CLASS, BLOCK_POSITION_CLASS, boolean.class);
-    private static final Method GET_HANDLE_METHOD = CraftBukkitReflection.needMethod(CRAFT_WORLD_CLASS, "getHandle");
-    private static final @Nullable Method CREATE_PREDICATE_METHOD = CraftBukkitReflection.firstNonNullOrNull(
-            CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "create", TAG_CONTAINER_CLASS),
-            CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "a", TAG_CONTAINER_CLASS)
+    private static final MethodHandle BLOCK_POSITION_CTR = ReflectionHandles.handle(
+            CraftBukkitReflection.needConstructor(BLOCK_POSITION_CLASS, int.class, int.class, int.class));
+    private static final MethodHandle SHAPE_DETECTOR_BLOCK_CTR = ReflectionHandles.handle(CraftBukkitReflection
+            .needConstructor(SHAPE_DETECTOR_BLOCK_CLASS, LEVEL_READER_CLASS, BLOCK_POSITION_CLASS, boolean.class));
+    private static final MethodHandle GET_HANDLE_METHOD = CraftBukkitReflection.needMethodHandle(CRAFT_WORLD_CLASS, "getHandle");
+    private static final @Nullable MethodHandle CREATE_PREDICATE_METHOD = ReflectionHandles.handleOrNull(
+            CraftBukkitReflection.firstNonNullOrNull(
+                    CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "create", TAG_CONTAINER_CLASS),
+                    CraftBukkitReflection.findMethod(ARGUMENT_BLOCK_PREDICATE_RESULT_CLASS, "a", TAG_CONTAINER_CLASS)
+            )
     );
-    private static final Method GET_SERVER_METHOD = CraftBukkitReflection.streamMethods(COMMAND_LISTENER_WRAPPER_CLASS)
-            .filter(it -> it.getReturnType().equals(MINECRAFT_SERVER_CLASS) && it.getParameterCount() == 0)
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("Could not find CommandSourceStack#getServer."));
-    private static final @Nullable Method GET_TAG_REGISTRY_METHOD = CraftBukkitReflection.firstNonNullOrNull(
-            CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTagRegistry"),
-            CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTags"),
-            CraftBukkitReflection.streamMethods(MINECRAFT_SERVER_CLASS)
-                    .filter(it -> it.getReturnType().equals(TAG_CONTAINER_CLASS) && it.getParameterCount() == 0)
+    private static final MethodHandle GET_SERVER_METHOD = ReflectionHandles.handle(
+            CraftBukkitReflection.streamMethods(COMMAND_LISTENER_WRAPPER_CLASS)
+                    .filter(it -> it.getReturnType().equals(MINECRAFT_SERVER_CLASS) && it.getParameterCount() == 0)
                     .findFirst()
-                    .orElse(null)
+                    .orElseThrow(() -> new IllegalStateException("Could not find CommandSourceStack#getServer."))
+    );
+    private static final @Nullable MethodHandle GET_TAG_REGISTRY_METHOD = ReflectionHandles.handleOrNull(
+            CraftBukkitReflection.firstNonNullOrNull(
+                    CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTagRegistry"),
+                    CraftBukkitReflection.findMethod(MINECRAFT_SERVER_CLASS, "getTags"),
+                    CraftBukkitReflection.streamMethods(MINECRAFT_SERVER_CLASS)
+                            .filter(it -> it.getReturnType().equals(TAG_CONTAINER_CLASS) && it.getParameterCount() == 0)
+                            .findFirst()
+                            .orElse(null)
+            )
     );
 
     /**
@@ -193,25 +202,25 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
                 throw new RuntimeException("Failed to initialize BlockPredicate parser.", e);
             }
         };
-        return new WrappedBrigadierParser<C, Object>(inst).flatMapSuccess((ctx, result) -> {
+        return new WrappedBrigadierParser<C, Object>(inst, null, RegistryGeneration.global()).flatMapSuccess((ctx, result) -> {
             if (result instanceof Predicate) {
                 // 1.19+
                 return ArgumentParseResult.successFuture(new BlockPredicateImpl((Predicate<Object>) result));
             }
-            final Object commandSourceStack = ctx.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+            final Object commandSourceStack = NativeSenders.nativeSender(ctx);
             try {
-                final Object server = GET_SERVER_METHOD.invoke(commandSourceStack);
+                final Object server = (Object) GET_SERVER_METHOD.invokeExact(commandSourceStack);
                 final Object obj;
                 if (GET_TAG_REGISTRY_METHOD != null) {
-                    obj = GET_TAG_REGISTRY_METHOD.invoke(server);
+                    obj = (Object) GET_TAG_REGISTRY_METHOD.invokeExact(server);
                 } else {
                     obj = RegistryReflection.registryByName("block");
                 }
                 Objects.requireNonNull(CREATE_PREDICATE_METHOD, "create on BlockPredicateArgument$Result");
-                final Predicate<Object> predicate = (Predicate<Object>) CREATE_PREDICATE_METHOD.invoke(result, obj);
+                final Predicate<Object> predicate = (Predicate<Object>) (Object) CREATE_PREDICATE_METHOD.invokeExact(result, obj);
                 return ArgumentParseResult.successFuture(new BlockPredicateImpl(predicate));
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            } catch (final Throwable ex) {
+                throw ReflectionHandles.rethrow(ex);
             }
         });
     }
@@ -250,16 +259,17 @@ public final class BlockPredicateParser<C> implements ArgumentParser.FutureArgum
         }
 
         private boolean testImpl(final @NonNull Block block, final boolean loadChunks) {
+            final Object blockInWorld;
             try {
-                final Object blockInWorld = SHAPE_DETECTOR_BLOCK_CTR.newInstance(
-                        GET_HANDLE_METHOD.invoke(block.getWorld()),
-                        BLOCK_POSITION_CTR.newInstance(block.getX(), block.getY(), block.getZ()),
-                        loadChunks
+                blockInWorld = (Object) SHAPE_DETECTOR_BLOCK_CTR.invokeExact(
+                        (Object) GET_HANDLE_METHOD.invokeExact((Object) block.getWorld()),
+                        (Object) BLOCK_POSITION_CTR.invokeExact((Object) block.getX(), (Object) block.getY(), (Object) block.getZ()),
+                        (Object) loadChunks
                 );
-                return this.predicate.test(blockInWorld);
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            } catch (final Throwable ex) {
+                throw ReflectionHandles.rethrow(ex);
             }
+            return this.predicate.test(blockInWorld);
         }
 
         @Override
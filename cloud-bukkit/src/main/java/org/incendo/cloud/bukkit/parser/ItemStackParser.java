@@ -26,8 +26,8 @@ package org.incendo.cloud.bukkit.parser;
 import com.google.common.base.Suppliers;
 import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -42,12 +42,14 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.ProtoItemStack;
 import org.incendo.cloud.bukkit.internal.CommandBuildContextSupplier;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
+import org.incendo.cloud.bukkit.internal.ReflectionHandles;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
@@ -153,34 +155,47 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
                 "Item",
                 "net.minecraft.world.item.Item"
         );
-        private static final Supplier<Method> GET_MATERIAL_METHOD = Suppliers.memoize(() -> CraftBukkitReflection
-                .needMethod(CraftBukkitReflection.needOBCClass("util.CraftMagicNumbers"), "getMaterial", NMS_ITEM_CLASS));
-        private static final Method CREATE_ITEM_STACK_METHOD = CraftBukkitReflection.firstNonNullOrThrow(
+        private static final Supplier<MethodHandle> GET_MATERIAL_METHOD = Suppliers.memoize(() -> CraftBukkitReflection
+                .needMethodHandle(CraftBukkitReflection.needOBCClass("util.CraftMagicNumbers"), "getMaterial", NMS_ITEM_CLASS));
+        private static final MethodHandle CREATE_ITEM_STACK_METHOD = ReflectionHandles.handle(CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find createItemStack method on ItemInput",
                 CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "a", int.class, boolean.class),
                 CraftBukkitReflection.findMethod(ITEM_INPUT_CLASS, "createItemStack", int.class, boolean.class)
-        );
-        private static final Method AS_BUKKIT_COPY_METHOD = CraftBukkitReflection
-                .needMethod(CRAFT_ITEM_STACK_CLASS, "asBukkitCopy", NMS_ITEM_STACK_CLASS);
-        private static final Field ITEM_FIELD = CraftBukkitReflection.firstNonNullOrThrow(
+        ));
+        private static final MethodHandle AS_BUKKIT_COPY_METHOD = CraftBukkitReflection
+                .needMethodHandle(CRAFT_ITEM_STACK_CLASS, "asBukkitCopy", NMS_ITEM_STACK_CLASS);
+        private static final MethodHandle ITEM_FIELD = ReflectionHandles.getter(CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find item field on ItemInput",
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "b"),
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "item")
-        );
-        private static final Field EXTRA_DATA_FIELD = CraftBukkitReflection.firstNonNullOrThrow(
+        ));
+        private static final MethodHandle EXTRA_DATA_FIELD = ReflectionHandles.getter(CraftBukkitReflection.firstNonNullOrThrow(
                 () -> "Couldn't find tag field on ItemInput",
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "c"),
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "tag"),
                 CraftBukkitReflection.findField(ITEM_INPUT_CLASS, "components")
-        );
+        ));
         private static final Class<?> HOLDER_CLASS = CraftBukkitReflection.findMCClass("core.Holder");
-        private static final @Nullable Method VALUE_METHOD = HOLDER_CLASS == null
+        private static final @Nullable MethodHandle VALUE_METHOD = HOLDER_CLASS == null
                 ? null
-                : CraftBukkitReflection.firstNonNullOrThrow(
+                : ReflectionHandles.handle(CraftBukkitReflection.firstNonNullOrThrow(
                         () -> "Couldn't find Holder#value",
                         CraftBukkitReflection.findMethod(HOLDER_CLASS, "value"),
                         CraftBukkitReflection.findMethod(HOLDER_CLASS, "a")
-                );
+                ));
+        private static final ClassValue<MethodHandle> IS_EMPTY_METHOD = new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(final Class<?> type) {
+                final List<Method> isEmptyMethod = Arrays.stream(type.getMethods())
+                    .filter(it -> it.getParameterCount() == 0 && it.getReturnType().equals(boolean.class))
+                    .collect(Collectors.toList());
+                if (isEmptyMethod.size() != 1) {
+                    throw new IllegalStateException(
+                        "Failed to locate DataComponentMap/Patch#isEmpty; size=" + isEmptyMethod.size());
+                }
+                return ReflectionHandles.handle(isEmptyMethod.get(0));
+            }
+        };
         private static final Class<?> NBT_TAG_CLASS = CraftBukkitReflection.firstNonNullOrThrow(
             () -> "Cloud not find net.minecraft.nbt.Tag",
             CraftBukkitReflection.findClass("net.minecraft.nbt.Tag"),
@@ -209,7 +224,7 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
                     throw new RuntimeException("Failed to initialize modern ItemStack parser.", e);
                 }
             };
-            return new WrappedBrigadierParser<C, Object>(inst)
+            return new WrappedBrigadierParser<C, Object>(inst, null, RegistryGeneration.global())
                     .flatMapSuccess((ctx, itemInput) -> ArgumentParseResult.successFuture(
                             new ModernProtoItemStack(itemInput)));
         }
@@ -238,26 +253,19 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             ModernProtoItemStack(final @NonNull Object itemInput) {
                 this.itemInput = itemInput;
                 try {
-                    Object item = ITEM_FIELD.get(itemInput);
+                    Object item = (Object) ITEM_FIELD.invokeExact(itemInput);
                     if (HOLDER_CLASS != null && HOLDER_CLASS.isInstance(item)) {
-                        item = VALUE_METHOD.invoke(item);
+                        item = (Object) VALUE_METHOD.invokeExact(item);
                     }
-                    this.material = (Material) GET_MATERIAL_METHOD.get().invoke(null, item);
-                    final Object extraData = EXTRA_DATA_FIELD.get(itemInput);
+                    this.material = (Material) (Object) GET_MATERIAL_METHOD.get().invokeExact(item);
+                    final Object extraData = (Object) EXTRA_DATA_FIELD.invokeExact(itemInput);
                     if (NBT_TAG_CLASS.isInstance(extraData) || extraData == null) {
                         this.hasExtraData = extraData != null;
                     } else {
-                        final List<Method> isEmptyMethod = Arrays.stream(extraData.getClass().getMethods())
-                            .filter(it -> it.getParameterCount() == 0 && it.getReturnType().equals(boolean.class))
-                            .collect(Collectors.toList());
-                        if (isEmptyMethod.size() != 1) {
-                            throw new IllegalStateException(
-                                "Failed to locate DataComponentMap/Patch#isEmpty; size=" + isEmptyMethod.size());
-                        }
-                        this.hasExtraData = !(boolean) isEmptyMethod.get(0).invoke(extraData);
+                        this.hasExtraData = !(boolean) (Object) IS_EMPTY_METHOD.get(extraData.getClass()).invokeExact(extraData);
                     }
-                } catch (final ReflectiveOperationException ex) {
-                    throw new RuntimeException(ex);
+                } catch (final Throwable ex) {
+                    throw ReflectionHandles.rethrow(ex);
                 }
             }
 
@@ -274,9 +282,12 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
             @Override
             public @NonNull ItemStack createItemStack(final int stackSize, final boolean respectMaximumStackSize) {
                 try {
-                    return (ItemStack) AS_BUKKIT_COPY_METHOD.invoke(
-                            null,
-                            CREATE_ITEM_STACK_METHOD.invoke(this.itemInput, stackSize, respectMaximumStackSize)
+                    return (ItemStack) (Object) AS_BUKKIT_COPY_METHOD.invokeExact(
+                            (Object) CREATE_ITEM_STACK_METHOD.invokeExact(
+                                    this.itemInput,
+                                    (Object) stackSize,
+                                    (Object) respectMaximumStackSize
+                            )
                     );
                 } catch (final InvocationTargetException ex) {
                     final Throwable cause = ex.getCause();
@@ -284,8 +295,8 @@ public class ItemStackParser<C> implements ArgumentParser.FutureArgumentParser<C
                         throw new IllegalArgumentException(cause.getMessage(), cause);
                     }
                     throw new RuntimeException(ex);
-                } catch (final ReflectiveOperationException e) {
-                    throw new RuntimeException(e);
+                } catch (final Throwable ex) {
+                    throw ReflectionHandles.rethrow(ex);
                 }
             }
         }
@@ -39,6 +39,8 @@ import org.bukkit.inventory.ItemStack;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.data.ItemStackPredicate;
@@ -143,12 +145,12 @@ public final class ItemStackPredicateParser<C> implements ArgumentParser.FutureA
             }
         };
 
-        return new WrappedBrigadierParser<C, Object>(inst).flatMapSuccess((ctx, result) -> {
+        return new WrappedBrigadierParser<C, Object>(inst, null, RegistryGeneration.global()).flatMapSuccess((ctx, result) -> {
             if (result instanceof Predicate) {
                 // 1.19+
                 return ArgumentParseResult.successFuture(new ItemStackPredicateImpl((Predicate<Object>) result));
             }
-            final Object commandSourceStack = ctx.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+            final Object commandSourceStack = NativeSenders.nativeSender(ctx);
             final com.mojang.brigadier.context.CommandContext<Object> dummy = createDummyContext(ctx, commandSourceStack);
             Objects.requireNonNull(CREATE_PREDICATE_METHOD, "ItemPredicateArgument$Result#create");
             try {
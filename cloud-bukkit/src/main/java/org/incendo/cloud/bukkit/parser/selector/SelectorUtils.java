@@ -29,6 +29,7 @@ import com.mojang.brigadier.arguments.ArgumentType;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -42,6 +43,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -54,10 +56,13 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
 import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
 import org.incendo.cloud.bukkit.internal.MinecraftArgumentTypes;
+import org.incendo.cloud.bukkit.internal.ReflectionHandles;
 import org.incendo.cloud.context.CommandContext;
 import org.incendo.cloud.context.CommandInput;
 import org.incendo.cloud.parser.ArgumentParseResult;
@@ -81,7 +86,8 @@ final class SelectorUtils {
         }
         final WrappedBrigadierParser<C, Object> wrappedBrigParser = new WrappedBrigadierParser<>(
                 () -> createEntityArgument(single, playersOnly),
-                EntityArgumentParseFunction.INSTANCE
+                EntityArgumentParseFunction.INSTANCE,
+                RegistryGeneration.global()
         );
         return new ModernSelectorParser<>(wrappedBrigParser, mapper);
     }
@@ -102,25 +108,32 @@ final class SelectorUtils {
 
         static final EntityArgumentParseFunction INSTANCE = new EntityArgumentParseFunction();
 
+        private static final ClassValue<Optional<MethodHandle>> SPECIAL_PARSE = new ClassValue<Optional<MethodHandle>>() {
+            @Override
+            protected Optional<MethodHandle> computeValue(final Class<?> type) {
+                return Optional.ofNullable(CraftBukkitReflection.findMethodHandle(
+                        type,
+                        "parse",
+                        StringReader.class,
+                        boolean.class
+                ));
+            }
+        };
+
         @Override
         public Object apply(
                 final ArgumentType<Object> type,
                 final StringReader reader
         ) throws CommandSyntaxException {
-            final @Nullable Method specialParse = CraftBukkitReflection.findMethod(
-                    type.getClass(),
-                    "parse",
-                    StringReader.class,
-                    boolean.class
-            );
+            final @Nullable MethodHandle specialParse = SPECIAL_PARSE.get(type.getClass()).orElse(null);
             if (specialParse == null) {
                 return type.parse(reader);
             }
             try {
-                return specialParse.invoke(
-                        type,
-                        reader,
-                        true // CraftBukkit overridePermissions param
+                return (Object) specialParse.invokeExact(
+                        (Object) type,
+                        (Object) reader,
+                        (Object) true // CraftBukkit overridePermissions param
                 );
             } catch (final InvocationTargetException ex) {
                 final Throwable cause = ex.getCause();
@@ -128,8 +141,8 @@ final class SelectorUtils {
                     throw (CommandSyntaxException) cause;
                 }
                 throw new RuntimeException(ex);
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            } catch (final Throwable ex) {
+                throw ReflectionHandles.rethrow(ex);
             }
         }
     }
@@ -310,7 +323,7 @@ final class SelectorUtils {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull CommandInput input
         ) {
-            final Object commandSourceStack = commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+            final Object commandSourceStack = NativeSenders.nativeSender(commandContext);
             final @Nullable Field bypassField =
                     CraftBukkitReflection.findField(commandSourceStack.getClass(), "bypassSelectorPermissions");
             try {
@@ -349,9 +362,14 @@ final class SelectorUtils {
             private @MonotonicNonNull Method player;
             private @MonotonicNonNull Method entities;
             private @MonotonicNonNull Method players;
+            private final MethodHandle getBukkitEntityHandle;
+            private final MethodHandle entityHandle;
+            private final MethodHandle playerHandle;
+            private final MethodHandle entitiesHandle;
+            private final MethodHandle playersHandle;
 
             Methods(final CommandContext<?> commandContext, final Object selector) {
-                final Object nativeSender = commandContext.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+                final Object nativeSender = NativeSenders.nativeSender(commandContext);
                 final Class<?> nativeSenderClass = nativeSender.getClass();
                 for (final Method method : selector.getClass().getDeclaredMethods()) {
                     if (method.getParameterCount() != 1
@@ -411,6 +429,11 @@ final class SelectorUtils {
                 Objects.requireNonNull(this.entity, "Failed to locate findEntity method");
                 Objects.requireNonNull(this.players, "Failed to locate findPlayers method");
                 Objects.requireNonNull(this.entities, "Failed to locate findEntities method");
+                this.getBukkitEntityHandle = ReflectionHandles.handle(this.getBukkitEntity);
+                this.entityHandle = ReflectionHandles.handle(this.entity);
+                this.playerHandle = ReflectionHandles.handle(this.player);
+                this.entitiesHandle = ReflectionHandles.handle(this.entities);
+                this.playersHandle = ReflectionHandles.handle(this.players);
             }
 
             private static @Nullable Method findGetBukkitEntityMethod(final Class<?> returnType) {
@@ -453,45 +476,45 @@ final class SelectorUtils {
         }
 
         Entity singleEntity() {
-            return reflectiveOperation(() -> (Entity) this.methods().getBukkitEntity.invoke(this.methods().entity.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
+            return reflectiveOperation(() -> (Entity) (Object) this.methods().getBukkitEntityHandle.invokeExact(
+                    (Object) this.methods().entityHandle.invokeExact(this.selector, this.nativeSender())
+            ));
         }
 
         Player singlePlayer() {
-            return reflectiveOperation(() -> (Player) this.methods().getBukkitEntity.invoke(this.methods().player.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
+            return reflectiveOperation(() -> (Player) (Object) this.methods().getBukkitEntityHandle.invokeExact(
+                    (Object) this.methods().playerHandle.invokeExact(this.selector, this.nativeSender())
+            ));
         }
 
         @SuppressWarnings("unchecked")
         List<Entity> entities() {
-            final List<Object> internalEntities = reflectiveOperation(() -> ((List<Object>) this.methods().entities.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
+            final List<Object> internalEntities = reflectiveOperation(() -> (List<Object>) (Object) this.methods().entitiesHandle
+                    .invokeExact(this.selector, this.nativeSender()));
+            final MethodHandle getBukkitEntity = this.methods().getBukkitEntityHandle;
             return internalEntities.stream()
-                    .map(o -> reflectiveOperation(() -> (Entity) this.methods().getBukkitEntity.invoke(o)))
+                    .map(o -> reflectiveOperation(() -> (Entity) (Object) getBukkitEntity.invokeExact(o)))
                     .collect(Collectors.toList());
         }
 
         @SuppressWarnings("unchecked")
         List<Player> players() {
-            final List<Object> serverPlayers = reflectiveOperation(() -> ((List<Object>) this.methods().players.invoke(
-                    this.selector,
-                    this.commandContext.<Object>get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER)
-            )));
+            final List<Object> serverPlayers = reflectiveOperation(() -> (List<Object>) (Object) this.methods().playersHandle
+                    .invokeExact(this.selector, this.nativeSender()));
+            final MethodHandle getBukkitEntity = this.methods().getBukkitEntityHandle;
             return serverPlayers.stream()
-                    .map(o -> reflectiveOperation(() -> (Player) this.methods().getBukkitEntity.invoke(o)))
+                    .map(o -> reflectiveOperation(() -> (Player) (Object) getBukkitEntity.invokeExact(o)))
                     .collect(Collectors.toList());
         }
 
+        private Object nativeSender() {
+            return NativeSenders.nativeSender(this.commandContext);
+        }
+
         @FunctionalInterface
         interface ReflectiveOperation<T> {
 
-            T run() throws ReflectiveOperationException;
+            T run() throws Throwable;
         }
 
         private static <T> T reflectiveOperation(final ReflectiveOperation<T> op) {
@@ -502,8 +525,8 @@ final class SelectorUtils {
                     throw rethrow(ex.getCause());
                 }
                 throw new RuntimeException(ex);
-            } catch (final ReflectiveOperationException ex) {
-                throw new RuntimeException(ex);
+            } catch (final Throwable ex) {
+                throw ReflectionHandles.rethrow(ex);
             }
         }
     }
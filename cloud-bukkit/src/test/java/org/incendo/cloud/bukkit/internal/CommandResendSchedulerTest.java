@@ -0,0 +1,154 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.incendo.cloud.bukkit.CommandResendPolicy;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandResendSchedulerTest {
+
+    private static final int PLAYERS = 200;
+
+    @Test
+    void testImmediatePolicyResendsInline() {
+        // Arrange
+        final TickHarness harness = new TickHarness(CommandResendPolicy.immediate());
+
+        // Act
+        harness.scheduler.invalidate();
+
+        // Assert
+        assertThat(harness.resendsPerPlayer.values()).containsExactlyElementsIn(Collections.nCopies(PLAYERS, 1));
+        assertThat(harness.scheduledTasks).isEmpty();
+    }
+
+    @Test
+    void testStaggeredPolicyBoundsWorstCaseTick() {
+        // Arrange
+        final TickHarness harness = new TickHarness(CommandResendPolicy.staggered(2, 20));
+
+        // Act
+        for (int i = 0; i < 80; i++) {
+            harness.scheduler.invalidate();
+        }
+        harness.runUntilIdle();
+
+        // Assert
+        assertThat(harness.resendsPerPlayer.values()).containsExactlyElementsIn(Collections.nCopies(PLAYERS, 1));
+        assertThat(harness.resendsPerTick.subList(0, 1)).containsExactly(0);
+        assertThat(harness.worstTick()).isEqualTo(20);
+        assertThat(harness.resendsPerTick).hasSize(1 + PLAYERS / 20);
+    }
+
+    @Test
+    void testChangeWhileDrainingOnlyResendsPlayersThatWereServed() {
+        // Arrange
+        final TickHarness harness = new TickHarness(CommandResendPolicy.staggered(0, 50));
+        harness.scheduler.invalidate();
+        harness.runTicks(2);
+
+        // Act
+        harness.scheduler.invalidate();
+        harness.runUntilIdle();
+
+        // Assert
+        final Map<Integer, Long> players = harness.resendsPerPlayer.values().stream()
+                .collect(Collectors.groupingBy(count -> count, Collectors.counting()));
+        assertThat(players).containsExactly(2, 100L, 1, 100L);
+        assertThat(harness.worstTick()).isEqualTo(50);
+    }
+
+    @Test
+    void testSteadyChangesDoNotPostponeResendPastMaximumDelay() {
+        // Arrange
+        final TickHarness harness = new TickHarness(CommandResendPolicy.staggered(2, 4, 50));
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            harness.scheduler.invalidate();
+            harness.runTicks(1);
+        }
+
+        // Assert
+        assertThat(harness.resendsPerTick.subList(0, 4)).containsExactly(0, 0, 0, 50).inOrder();
+    }
+
+
+    /**
+     * Simulates the server tick loop. Each tick runs the tasks that were scheduled during the previous tick and records
+     * how many players received the command tree in that tick, which is what dominates the tick time.
+     */
+    private static final class TickHarness {
+
+        private final List<Integer> players = IntStream.range(0, PLAYERS).boxed().collect(Collectors.toList());
+        private final Map<Integer, Integer> resendsPerPlayer = new HashMap<>();
+        private final List<Integer> resendsPerTick = new ArrayList<>();
+        private final Queue<Runnable> scheduledTasks = new ArrayDeque<>();
+        private final CommandResendScheduler<Integer> scheduler;
+        private int resendsThisTick;
+
+        TickHarness(final CommandResendPolicy policy) {
+            this.scheduler = new CommandResendScheduler<>(
+                    () -> this.players,
+                    player -> {
+                        this.resendsPerPlayer.merge(player, 1, Integer::sum);
+                        this.resendsThisTick++;
+                    },
+                    this.scheduledTasks::add,
+                    () -> policy
+            );
+        }
+
+        void runTicks(final int ticks) {
+            for (int i = 0; i < ticks; i++) {
+                final List<Runnable> tasks = new ArrayList<>(this.scheduledTasks);
+                this.scheduledTasks.clear();
+                this.resendsThisTick = 0;
+                tasks.forEach(Runnable::run);
+                this.resendsPerTick.add(this.resendsThisTick);
+            }
+        }
+
+        void runUntilIdle() {
+            while (!this.scheduledTasks.isEmpty()) {
+                this.runTicks(1);
+            }
+        }
+
+        int worstTick() {
+            return Collections.max(this.resendsPerTick);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.incendo.cloud.bukkit.RegistrationBatch;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandTreeSyncTest {
+
+    @Test
+    void testInvalidateWithoutBatchResends() {
+        // Arrange
+        final AtomicInteger resends = new AtomicInteger();
+        final CommandTreeSync sync = new CommandTreeSync(resends::incrementAndGet);
+
+        // Act
+        sync.invalidate();
+        sync.invalidate();
+
+        // Assert
+        assertThat(resends.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testNestedBatchesResendOnce() {
+        // Arrange
+        final AtomicInteger resends = new AtomicInteger();
+        final CommandTreeSync sync = new CommandTreeSync(resends::incrementAndGet);
+
+        // Act
+        try (RegistrationBatch outer = sync.begin()) {
+            for (int i = 0; i < 80; i++) {
+                sync.invalidate();
+            }
+            final RegistrationBatch inner = sync.begin();
+            sync.invalidate();
+            inner.close();
+            inner.close();
+            assertThat(resends.get()).isEqualTo(0);
+        }
+
+        // Assert
+        assertThat(resends.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testUnchangedBatchDoesNotResend() {
+        // Arrange
+        final AtomicInteger resends = new AtomicInteger();
+        final CommandTreeSync sync = new CommandTreeSync(resends::incrementAndGet);
+
+        // Act
+        sync.begin().close();
+
+        // Assert
+        assertThat(resends.get()).isEqualTo(0);
+    }
+}
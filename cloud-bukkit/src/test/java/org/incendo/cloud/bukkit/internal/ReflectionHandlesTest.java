@@ -0,0 +1,97 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.bukkit.internal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReflectionHandlesTest {
+
+    @Test
+    void testHandleWrapsTargetExceptions() throws ReflectiveOperationException {
+        // Arrange
+        final MethodHandle handle = ReflectionHandles.handle(Target.class.getDeclaredMethod("fail", String.class));
+
+        // Act
+        final InvocationTargetException exception = assertThrows(
+                InvocationTargetException.class,
+                () -> {
+                    final Object unused = (Object) handle.invokeExact((Object) new Target(), (Object) "message");
+                }
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(IOException.class);
+        assertThat(exception).hasCauseThat().hasMessageThat().isEqualTo("message");
+    }
+
+    @Test
+    void testConstructorHandleWrapsTargetExceptions() throws ReflectiveOperationException {
+        // Arrange
+        final MethodHandle handle = ReflectionHandles.handle(Target.class.getDeclaredConstructor(String.class));
+
+        // Act
+        final InvocationTargetException exception = assertThrows(
+                InvocationTargetException.class,
+                () -> {
+                    final Object unused = (Object) handle.invokeExact((Object) "message");
+                }
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testRethrowWrapsInvocationTargetException() {
+        // Arrange
+        final InvocationTargetException exception = new InvocationTargetException(new IOException());
+
+        // Act
+        final RuntimeException result = ReflectionHandles.rethrow(exception);
+
+        // Assert
+        assertThat(result).hasCauseThat().isSameInstanceAs(exception);
+    }
+
+
+    static final class Target {
+
+        Target() {
+        }
+
+        Target(final String message) {
+            throw new IllegalStateException(message);
+        }
+
+        Object fail(final String message) throws IOException {
+            throw new IOException(message);
+        }
+    }
+}
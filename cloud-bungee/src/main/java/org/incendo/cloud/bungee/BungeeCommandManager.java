@@ -23,12 +23,15 @@
 //
 package org.incendo.cloud.bungee;
 
+import java.time.Duration;
 import java.util.logging.Level;
 import net.md_5.bungee.api.ChatColor;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.chat.ComponentBuilder;
 import net.md_5.bungee.api.plugin.Plugin;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.SenderMapperHolder;
@@ -36,6 +39,9 @@ import org.incendo.cloud.bungee.parser.PlayerParser;
 import org.incendo.cloud.bungee.parser.ServerParser;
 import org.incendo.cloud.caption.CaptionProvider;
 import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.minecraft.suggestion.CachingSuggestionFactory;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionFactory;
 
 public class BungeeCommandManager<C> extends CommandManager<C> implements SenderMapperHolder<CommandSender, C> {
 
@@ -51,6 +57,7 @@ public class BungeeCommandManager<C> extends CommandManager<C> implements Sender
 
     private final Plugin owningPlugin;
     private final SenderMapper<CommandSender, C> senderMapper;
+    private volatile @Nullable SuggestionFactory<C, ? extends Suggestion> tabCompletionSuggestionFactory = null;
 
     /**
      * Construct a new Bungee command manager
@@ -108,6 +115,31 @@ public class BungeeCommandManager<C> extends CommandManager<C> implements Sender
         return this.owningPlugin;
     }
 
+    /**
+     * Enables caching of the suggestions that are produced for tab completion requests. Results are cached per sender and
+     * input up to the last token boundary, and suggestions for a token that is being typed are produced by filtering the
+     * cached suggestions.
+     *
+     * <p>This should only be enabled if the suggestion providers do not depend on the partial token that is being completed,
+     * see {@link CachingSuggestionFactory}.</p>
+     *
+     * @param maximumSize the maximum number of cached results
+     * @param expireAfter how long a result may be used after it has been computed
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final void cacheSuggestions(final int maximumSize, final @NonNull Duration expireAfter) {
+        this.tabCompletionSuggestionFactory = CachingSuggestionFactory.of(this, this.suggestionFactory(), maximumSize, expireAfter);
+    }
+
+    @NonNull SuggestionFactory<C, ? extends Suggestion> tabCompletionSuggestionFactory() {
+        final SuggestionFactory<C, ? extends Suggestion> suggestionFactory = this.tabCompletionSuggestionFactory;
+        if (suggestionFactory != null) {
+            return suggestionFactory;
+        }
+        return this.suggestionFactory();
+    }
+
     private void registerDefaultExceptionHandlers() {
         this.registerDefaultExceptionHandlers(
             triplet -> {
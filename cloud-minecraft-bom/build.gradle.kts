@@ -16,7 +16,7 @@ dependencies {
                 continue
             }
 
-            if (subproject.name.startsWith("example-")) {
+            if (subproject.name.startsWith("example-") || subproject.name == "cloud-benchmarks") {
                 continue
             }
 
@@ -0,0 +1,8 @@
+plugins {
+    id("conventions.base")
+    id("conventions.publishing")
+}
+
+dependencies {
+    api(libs.cloud.core)
+}
@@ -0,0 +1,268 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.suggestion;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.context.CommandContext;
+import org.incendo.cloud.context.CommandInput;
+import org.incendo.cloud.execution.preprocessor.CommandPreprocessingContext;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.SuggestionFactory;
+import org.incendo.cloud.suggestion.Suggestions;
+
+/**
+ * {@link SuggestionFactory} that caches the suggestions produced by another factory per sender.
+ *
+ * <p>Results are keyed by the sender and the input up to the last token boundary, which identifies the node that is being
+ * completed. When a sender types more characters of the same token, the suggestions are produced by running the
+ * {@link CommandManager#suggestionProcessor() suggestion processor} over the cached list rather than by invoking the
+ * suggestion providers again. This assumes that the suggestion providers return the same suggestions regardless of the
+ * partial token, which is the case for most providers, but not for providers that expand the current token, such as the
+ * numerical suggestions of the standard parsers. It also assumes that the suggestion processor preserves the type of the
+ * suggestions, which the default filtering processor does.</p>
+ *
+ * <p>Senders are compared using {@link Object#equals(Object)}, so the sender mapper should produce equal senders for the
+ * same native sender for the cache to be effective. The cache key does not include the {@link CommandContext}: suggestions
+ * that are requested with a context are cached by the {@link CommandContext#sender() sender} of the context only, and a
+ * result that was computed for one context is returned for any other context with the same sender and input. This factory
+ * should therefore not be used if the suggestions depend on values that are stored in the context, such as values added
+ * by preprocessors.</p>
+ *
+ * @param <C> command sender type
+ * @param <S> suggestion type
+ * @since 2.0.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+public final class CachingSuggestionFactory<C, S extends Suggestion> implements SuggestionFactory<C, S> {
+
+    private final CommandManager<C> commandManager;
+    private final SuggestionFactory<C, S> suggestionFactory;
+    private final int maximumSize;
+    private final long expireAfterNanos;
+    private final LongSupplier ticker;
+    private final Map<CacheKey<C>, CacheEntry<C, S>> entries;
+
+    CachingSuggestionFactory(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull SuggestionFactory<C, S> suggestionFactory,
+            final int maximumSize,
+            final @NonNull Duration expireAfter,
+            final @NonNull LongSupplier ticker
+    ) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+        }
+        if (expireAfter.isNegative() || expireAfter.isZero()) {
+            throw new IllegalArgumentException("expireAfter must be positive, was " + expireAfter);
+        }
+        this.commandManager = Objects.requireNonNull(commandManager, "commandManager");
+        this.suggestionFactory = Objects.requireNonNull(suggestionFactory, "suggestionFactory");
+        this.maximumSize = maximumSize;
+        this.expireAfterNanos = expireAfter.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true /* accessOrder */);
+    }
+
+    /**
+     * Returns a new factory that caches the suggestions produced by the given {@code suggestionFactory}.
+     *
+     * @param <C>               command sender type
+     * @param <S>               suggestion type
+     * @param commandManager    the command manager that owns the suggestion processor
+     * @param suggestionFactory the factory that produces the suggestions
+     * @param maximumSize       the maximum number of cached results, the least recently used result is evicted first
+     * @param expireAfter       how long a result may be used after it has been computed
+     * @return the caching factory
+     */
+    public static <C, S extends Suggestion> @NonNull CachingSuggestionFactory<C, S> of(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull SuggestionFactory<C, S> suggestionFactory,
+            final int maximumSize,
+            final @NonNull Duration expireAfter
+    ) {
+        return new CachingSuggestionFactory<>(commandManager, suggestionFactory, maximumSize, expireAfter, System::nanoTime);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input
+    ) {
+        return this.suggest(context.sender(), input, () -> this.suggestionFactory.suggest(context, input));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull C sender,
+            final @NonNull String input
+    ) {
+        return this.suggest(sender, input, () -> this.suggestionFactory.suggest(sender, input));
+    }
+
+    /**
+     * Removes all cached results for the given {@code sender}.
+     *
+     * @param sender the sender
+     */
+    public void invalidate(final @NonNull C sender) {
+        synchronized (this.entries) {
+            this.entries.keySet().removeIf(key -> key.sender.equals(sender));
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    private @NonNull CompletableFuture<@NonNull Suggestions<C, S>> suggest(
+            final @NonNull C sender,
+            final @NonNull String input,
+            final @NonNull Supplier<@NonNull CompletableFuture<@NonNull Suggestions<C, S>>> suggestions
+    ) {
+        final int boundary = input.lastIndexOf(' ') + 1;
+        final CacheKey<C> key = new CacheKey<>(sender, input.substring(0, boundary));
+        final String token = input.substring(boundary);
+
+        final CacheEntry<C, S> entry = this.entry(key);
+        if (entry != null && token.startsWith(entry.token)) {
+            return CompletableFuture.completedFuture(this.refine(entry, token));
+        }
+
+        return suggestions.get().thenApply(result -> {
+            // Only results that complete the final token can be refined as more characters are typed.
+            if (result.commandInput().remainingInput().equals(token)) {
+                this.store(key, new CacheEntry<>(token, result, this.ticker.getAsLong()));
+            }
+            return result;
+        });
+    }
+
+    private @Nullable CacheEntry<C, S> entry(final @NonNull CacheKey<C> key) {
+        synchronized (this.entries) {
+            final CacheEntry<C, S> entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (this.ticker.getAsLong() - entry.createdAt >= this.expireAfterNanos) {
+                this.entries.remove(key);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NonNull Suggestions<C, S> refine(final @NonNull CacheEntry<C, S> entry, final @NonNull String token) {
+        if (token.length() == entry.token.length()) {
+            return entry.suggestions;
+        }
+        // The input is rebuilt rather than appended to, as appending would separate the characters from the token by a space.
+        final CommandInput cachedInput = entry.suggestions.commandInput();
+        final CommandInput commandInput = CommandInput.of(cachedInput.input().substring(0, cachedInput.cursor()) + token)
+                .cursor(cachedInput.cursor());
+        final List<S> list = this.commandManager.suggestionProcessor().process(
+                CommandPreprocessingContext.of(entry.suggestions.commandContext(), commandInput),
+                entry.suggestions.list().stream().map(Suggestion.class::cast)
+        ).map(suggestion -> (S) suggestion).collect(Collectors.toList());
+        return Suggestions.create(entry.suggestions.commandContext(), list, commandInput);
+    }
+
+    private void store(final @NonNull CacheKey<C> key, final @NonNull CacheEntry<C, S> entry) {
+        synchronized (this.entries) {
+            this.entries.put(key, entry);
+            final Iterator<CacheKey<C>> iterator = this.entries.keySet().iterator();
+            while (this.entries.size() > this.maximumSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+
+    private static final class CacheKey<C> {
+
+        private final C sender;
+        private final String prefix;
+        private final int hashCode;
+
+        private CacheKey(final @NonNull C sender, final @NonNull String prefix) {
+            this.sender = sender;
+            this.prefix = prefix;
+            this.hashCode = 31 * sender.hashCode() + prefix.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey<?> that = (CacheKey<?>) object;
+            return this.hashCode == that.hashCode && this.sender.equals(that.sender) && this.prefix.equals(that.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+
+    private static final class CacheEntry<C, S extends Suggestion> {
+
+        private final String token;
+        private final Suggestions<C, S> suggestions;
+        private final long createdAt;
+
+        private CacheEntry(
+                final @NonNull String token,
+                final @NonNull Suggestions<C, S> suggestions,
+                final long createdAt
+        ) {
+            this.token = token;
+            this.suggestions = suggestions;
+            this.createdAt = createdAt;
+        }
+    }
+}
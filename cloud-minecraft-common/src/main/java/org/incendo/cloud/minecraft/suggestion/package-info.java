@@ -0,0 +1,4 @@
+/**
+ * Suggestion utilities that are shared between the platforms.
+ */
+package org.incendo.cloud.minecraft.suggestion;
@@ -0,0 +1,67 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.util;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Cache for the compatibility between the runtime classes of senders and the sender types that commands require.
+ *
+ * <p>The results are stored per sender class using a {@link ClassValue}, and the required types are weakly referenced, so
+ * that neither the sender classes nor the required types are kept from being unloaded.</p>
+ *
+ * @since 2.0.0
+ */
+@API(status = API.Status.INTERNAL, since = "2.0.0")
+public final class SenderTypes {
+
+    private static final ClassValue<Map<Type, Boolean>> COMPATIBILITY = new ClassValue<Map<Type, Boolean>>() {
+        @Override
+        protected Map<Type, Boolean> computeValue(final Class<?> type) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+
+    private SenderTypes() {
+    }
+
+    /**
+     * Returns whether senders of the given {@code senderClass} are of the {@code requiredType}, as determined by
+     * {@link GenericTypeReflector#isSuperType(Type, Type)}.
+     *
+     * @param requiredType the sender type that is required
+     * @param senderClass  the runtime class of the sender
+     * @return {@code true} if the sender class is a subtype of the required type, else {@code false}
+     */
+    public static boolean isSuperType(final @NonNull Type requiredType, final @NonNull Class<?> senderClass) {
+        return COMPATIBILITY.get(senderClass)
+                .computeIfAbsent(requiredType, type -> GenericTypeReflector.isSuperType(type, senderClass));
+    }
+}
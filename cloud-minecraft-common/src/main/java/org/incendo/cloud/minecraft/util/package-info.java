@@ -0,0 +1,4 @@
+/**
+ * Utilities that are shared between the platforms.
+ */
+package org.incendo.cloud.minecraft.util;
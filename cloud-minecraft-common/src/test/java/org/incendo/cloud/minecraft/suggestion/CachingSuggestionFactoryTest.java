@@ -0,0 +1,148 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.suggestion;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.incendo.cloud.CommandManager;
+import org.incendo.cloud.execution.ExecutionCoordinator;
+import org.incendo.cloud.internal.CommandRegistrationHandler;
+import org.incendo.cloud.suggestion.BlockingSuggestionProvider;
+import org.incendo.cloud.suggestion.Suggestion;
+import org.incendo.cloud.suggestion.Suggestions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.incendo.cloud.parser.standard.StringParser.greedyStringParser;
+import static org.incendo.cloud.parser.standard.StringParser.stringParser;
+
+class CachingSuggestionFactoryTest {
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+
+    private TestCommandManager commandManager;
+    private CachingSuggestionFactory<Object, Suggestion> suggestionFactory;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        this.commandManager.command(this.commandManager.commandBuilder("command")
+                .required("word", stringParser(), (BlockingSuggestionProvider.Strings<Object>) (ctx, input) -> {
+                    this.invocations.incrementAndGet();
+                    return Arrays.asList("alpha", "alpine", "beta");
+                })
+                .required("greedy", greedyStringParser(), (BlockingSuggestionProvider.Strings<Object>) (ctx, input) -> {
+                    this.invocations.incrementAndGet();
+                    return Arrays.asList("one two", "one three");
+                }));
+        this.suggestionFactory = new CachingSuggestionFactory<>(
+                this.commandManager,
+                this.commandManager.suggestionFactory().mapped(suggestion -> suggestion),
+                16,
+                Duration.ofSeconds(1L),
+                this.time::get
+        );
+    }
+
+    @Test
+    void testRefinesCachedSuggestions() {
+        for (final String input : Arrays.asList("command ", "command a", "command al", "command ALP", "command b")) {
+            // Act
+            final Suggestions<Object, Suggestion> cached = this.suggestionFactory.suggestImmediately("sender", input);
+
+            // Assert
+            final Suggestions<Object, ? extends Suggestion> uncached = this.commandManager.suggestionFactory()
+                    .suggestImmediately("sender", input);
+            assertThat(cached.list()).containsExactlyElementsIn(uncached.list()).inOrder();
+            assertThat(cached.commandInput().remainingInput()).isEqualTo(uncached.commandInput().remainingInput());
+        }
+        // One invocation for each uncached request, and a single one for the cached requests.
+        assertThat(this.invocations.get()).isEqualTo(6);
+    }
+
+    @Test
+    void testRefinesCachedPartialToken() {
+        // Arrange
+        this.suggestionFactory.suggestImmediately("sender", "command a");
+
+        // Act
+        final Suggestions<Object, Suggestion> suggestions = this.suggestionFactory.suggestImmediately("sender", "command alpi");
+
+        // Assert
+        assertThat(suggestions.list().stream().map(Suggestion::suggestion).collect(Collectors.toList())).containsExactly("alpine");
+        assertThat(suggestions.commandInput().remainingInput()).isEqualTo("alpi");
+        assertThat(this.invocations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void testDoesNotRefineMultipleTokens() {
+        // Act
+        this.suggestionFactory.suggestImmediately("sender", "command alpha one t");
+        this.suggestionFactory.suggestImmediately("sender", "command alpha one tw");
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testExpiresSuggestions() {
+        // Act
+        this.suggestionFactory.suggestImmediately("sender", "command a");
+        this.time.addAndGet(Duration.ofSeconds(2L).toNanos());
+        this.suggestionFactory.suggestImmediately("sender", "command al");
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testSeparatesSenders() {
+        // Act
+        this.suggestionFactory.suggestImmediately("first", "command a");
+        this.suggestionFactory.suggestImmediately("second", "command al");
+        this.suggestionFactory.suggestImmediately("first", "command al");
+
+        // Assert
+        assertThat(this.invocations.get()).isEqualTo(2);
+    }
+
+
+    private static final class TestCommandManager extends CommandManager<Object> {
+
+        private TestCommandManager() {
+            super(ExecutionCoordinator.simpleCoordinator(), CommandRegistrationHandler.nullCommandRegistrationHandler());
+        }
+
+        @Override
+        public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+            return true;
+        }
+    }
+}
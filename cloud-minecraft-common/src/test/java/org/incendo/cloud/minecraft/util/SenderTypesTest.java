@@ -0,0 +1,49 @@
+//
+// MIT License
+//
+// Copyright (c) 2024 Incendo
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package org.incendo.cloud.minecraft.util;
+
+import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class SenderTypesTest {
+
+    @Test
+    void testIsSuperType() {
+        assertThat(SenderTypes.isSuperType(Object.class, String.class)).isTrue();
+        assertThat(SenderTypes.isSuperType(CharSequence.class, String.class)).isTrue();
+        assertThat(SenderTypes.isSuperType(Integer.class, String.class)).isFalse();
+        // Repeated lookups are served from the cache.
+        assertThat(SenderTypes.isSuperType(CharSequence.class, String.class)).isTrue();
+        assertThat(SenderTypes.isSuperType(Integer.class, String.class)).isFalse();
+    }
+
+    @Test
+    void testIsSuperTypeGeneric() {
+        assertThat(SenderTypes.isSuperType(new TypeToken<List<?>>() {}.getType(), ArrayList.class)).isTrue();
+    }
+}
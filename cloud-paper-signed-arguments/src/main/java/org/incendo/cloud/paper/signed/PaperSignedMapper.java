@@ -46,7 +46,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
-import org.incendo.cloud.brigadier.parser.WrappedBrigadierParser;
+import org.incendo.cloud.brigadier.parser.NativeSenders;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.CloudBukkitCapabilities;
 import org.incendo.cloud.bukkit.internal.BukkitBrigadierMapper;
@@ -89,7 +89,7 @@ public final class PaperSignedMapper implements SignedStringMapper {
     ) {
         final Map<String, ?> signedArgs;
         try {
-            final Object stack = ctx.get(WrappedBrigadierParser.COMMAND_CONTEXT_BRIGADIER_NATIVE_SENDER);
+            final Object stack = NativeSenders.nativeSender(ctx);
             final Object signingContext = this.proxies().commandSourceStackProxy.getSigningContext(stack);
             signedArgs = this.proxies().signedArgumentsProxy.arguments(signingContext);
         } catch (final Throwable thr) {
@@ -23,6 +23,8 @@
 //
 package org.incendo.cloud.paper;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.bukkit.command.PluginIdentifiableCommand;
 import org.bukkit.event.EventHandler;
@@ -46,6 +48,8 @@ class LegacyPaperBrigadier<C> implements Listener,
 
     private final CloudBrigadierManager<C, com.destroystokyo.paper.brigadier.BukkitBrigadierCommandSource> brigadierManager;
     private final LegacyPaperCommandManager<C> paperCommandManager;
+    private final CloudBrigadierCommand<C, com.destroystokyo.paper.brigadier.BukkitBrigadierCommandSource> executor;
+    private final Map<String, BrigadierPermissionChecker<C>> permissionCheckers = new HashMap<>();
 
     LegacyPaperBrigadier(final @NonNull LegacyPaperCommandManager<C> paperCommandManager) {
         this.paperCommandManager = paperCommandManager;
@@ -57,6 +61,12 @@ class LegacyPaperBrigadier<C> implements Listener,
             )
         );
 
+        this.executor = new CloudBrigadierCommand<>(
+            this.paperCommandManager,
+            this.brigadierManager,
+            command -> BukkitHelper.stripNamespace(this.paperCommandManager, command)
+        );
+
         final BukkitBrigadierMapper<C> mapper =
             new BukkitBrigadierMapper<>(this.paperCommandManager.owningPlugin().getLogger(), this.brigadierManager);
         mapper.registerBuiltInMappings();
@@ -96,28 +106,36 @@ class LegacyPaperBrigadier<C> implements Listener,
 
         final CommandNode<C> node = commandTree.getNamedNode(label);
         if (node == null) {
+            // The command has been unregistered, so its checker would only deny every sender.
+            this.permissionCheckers.remove(label);
             return;
         }
 
-        final BrigadierPermissionChecker<C> permissionChecker = (sender, permission) -> {
-            // We need to check that the command still exists...
-            if (commandTree.getNamedNode(label) == null) {
-                return false;
-            }
-
-            return this.paperCommandManager.testPermission(sender, permission).allowed();
-        };
         final LiteralBrigadierNodeFactory<C, com.destroystokyo.paper.brigadier.BukkitBrigadierCommandSource> literalFactory =
             this.brigadierManager.literalBrigadierNodeFactory();
         event.setLiteral(literalFactory.createNode(
             event.getLiteral().getLiteral(),
             node,
-            new CloudBrigadierCommand<>(
-                this.paperCommandManager,
-                this.brigadierManager,
-                command -> BukkitHelper.stripNamespace(this.paperCommandManager, command)
-            ),
-            permissionChecker
+            this.executor,
+            this.permissionCheckers.computeIfAbsent(label, this::createPermissionChecker)
         ));
     }
+
+    /**
+     * Creates the permission checker for the root command with the given {@code label}. The checkers are reused between
+     * registrations, so that the nodes of the root can be reused by incremental builds.
+     *
+     * @param label the label of the root command
+     * @return the permission checker
+     */
+    private @NonNull BrigadierPermissionChecker<C> createPermissionChecker(final @NonNull String label) {
+        return (sender, permission) -> {
+            // We need to check that the command still exists...
+            if (this.paperCommandManager.commandTree().getNamedNode(label) == null) {
+                return false;
+            }
+
+            return this.paperCommandManager.testPermission(sender, permission).allowed();
+        };
+    }
 }
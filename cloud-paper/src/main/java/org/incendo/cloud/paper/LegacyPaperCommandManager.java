@@ -39,6 +39,7 @@ import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.brigadier.BrigadierManagerHolder;
 import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.bukkit.BukkitCommandManager;
 import org.incendo.cloud.bukkit.CloudBukkitCapabilities;
 import org.incendo.cloud.bukkit.internal.CraftBukkitReflection;
@@ -96,6 +97,12 @@ public class LegacyPaperCommandManager<C> extends BukkitCommandManager<C> {
             this.senderMapper(),
             Function.identity()
         ));
+
+        /* Recreate memoized argument types when the data packs are reloaded */
+        if (CraftBukkitReflection.classExists(RegistryReloadListener.EVENT_CLASS)) {
+            Bukkit.getPluginManager().registerEvents(new RegistryReloadListener(), owningPlugin);
+            RegistryGeneration.global().track();
+        }
     }
 
     /**
@@ -172,7 +179,8 @@ public class LegacyPaperCommandManager<C> extends BukkitCommandManager<C> {
                     CommandSender.class,
                     this,
                     this.senderMapper(),
-                    this::lockRegistration
+                    this::lockRegistration,
+                    this::commandResendPolicy
                 );
                 this.brigadierManagerHolder = brig;
                 brig.registerPlugin(this.owningPlugin());
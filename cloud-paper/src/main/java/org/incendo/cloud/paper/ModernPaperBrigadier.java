@@ -42,6 +42,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
@@ -53,25 +54,34 @@ import org.incendo.cloud.Command;
 import org.incendo.cloud.CommandManager;
 import org.incendo.cloud.SenderMapper;
 import org.incendo.cloud.brigadier.BrigadierManagerHolder;
+import org.incendo.cloud.brigadier.BrigadierSetting;
 import org.incendo.cloud.brigadier.CloudBrigadierCommand;
 import org.incendo.cloud.brigadier.CloudBrigadierManager;
+import org.incendo.cloud.brigadier.parser.RegistryGeneration;
 import org.incendo.cloud.brigadier.permission.BrigadierPermissionChecker;
+import org.incendo.cloud.bukkit.CommandResendPolicy;
 import org.incendo.cloud.bukkit.PluginHolder;
 import org.incendo.cloud.bukkit.internal.BukkitBackwardsBrigadierSenderMapper;
 import org.incendo.cloud.bukkit.internal.BukkitBrigadierMapper;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
+import org.incendo.cloud.bukkit.internal.CommandResendScheduler;
+import org.incendo.cloud.bukkit.internal.CommandTreeSync;
 import org.incendo.cloud.component.CommandComponent;
 import org.incendo.cloud.internal.CommandNode;
 import org.incendo.cloud.internal.CommandRegistrationHandler;
 
 @SuppressWarnings("UnstableApiUsage")
-final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>, BrigadierManagerHolder<C, CommandSourceStack> {
+final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>, BrigadierManagerHolder<C, CommandSourceStack>,
+    CommandTreeSync.Holder {
     private final CommandManager<C> manager;
     private final Runnable lockRegistration;
     private final PluginMetaHolder metaHolder;
     private final CloudBrigadierManager<C, CommandSourceStack> brigadierManager;
     private final Map<String, Set<String>> aliases = new ConcurrentHashMap<>();
     private final Set<Command<C>> registeredCommands = new HashSet<>();
+    private final Map<String, BrigadierPermissionChecker<C>> permissionCheckers = new ConcurrentHashMap<>();
+    private final CloudBrigadierCommand<C, CommandSourceStack> executor;
+    private final CommandTreeSync commandTreeSync;
     private volatile @Nullable Commands commands;
 
     // TODO - Allow registering in bootstrap/onEnable per-root-note, based on meta value?
@@ -80,7 +90,8 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
         final Class<B> baseType,
         final CommandManager<C> manager,
         final SenderMapper<B, C> senderMapper,
-        final Runnable lockRegistration
+        final Runnable lockRegistration,
+        final Supplier<CommandResendPolicy> resendPolicy
     ) {
         this.manager = manager;
         this.lockRegistration = lockRegistration;
@@ -93,6 +104,14 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             throw new IllegalArgumentException(manager.toString());
         }
 
+        final CommandResendScheduler<Player> resendScheduler = new CommandResendScheduler<>(
+            () -> this.metaHolder.owningPlugin().getServer().getOnlinePlayers(),
+            Player::updateCommands,
+            task -> this.metaHolder.owningPlugin().getServer().getScheduler().runTask(this.metaHolder.owningPlugin(), task),
+            resendPolicy
+        );
+        this.commandTreeSync = new CommandTreeSync(resendScheduler::invalidate);
+
         this.brigadierManager = new CloudBrigadierManager<>(
             this.manager,
             SenderMapper.create(
@@ -113,6 +132,12 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             )
         );
 
+        this.executor = new CloudBrigadierCommand<>(
+            this.manager,
+            this.brigadierManager,
+            command -> BukkitHelper.stripNamespace(this.metaHolder.owningPluginMeta().getName(), command)
+        );
+
         final BukkitBrigadierMapper<C> mapper =
             new BukkitBrigadierMapper<>(Logger.getLogger(this.metaHolder.owningPluginMeta().getName()), this.brigadierManager);
         mapper.registerBuiltInMappings();
@@ -121,14 +146,18 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
 
     void registerPlugin(final Plugin plugin) {
         plugin.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, this::register);
+        RegistryGeneration.global().track();
     }
 
     void registerBootstrap(final BootstrapContext context) {
         context.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, this::register);
+        RegistryGeneration.global().track();
     }
 
     private void register(final ReloadableRegistrarEvent<Commands> event) {
         this.lockRegistration.run(); // Lock registration once event is called
+        /* The event is fired again every time the data packs are reloaded, so memoized argument types are recreated */
+        RegistryGeneration.global().advance();
 
         final Commands commands = event.registrar();
         this.commands = commands;
@@ -145,30 +174,49 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             this.createRootNode(rootNode, rootNode.component().name()),
             this.findBukkitDescription(rootNode),
             new ArrayList<>(rootNode.component().alternativeAliases()),
-            new HashSet<>(Collections.singletonList(CommandRegistrationFlag.FLATTEN_ALIASES))
+            this.registrationFlags()
         );
         this.aliases.put(rootNode.component().name(), registered);
     }
 
+    /**
+     * Returns the flags that root commands are registered with. Paper registers aliases as redirects to the command node
+     * unless {@link CommandRegistrationFlag#FLATTEN_ALIASES} is present.
+     *
+     * @return the registration flags
+     */
+    private Set<CommandRegistrationFlag> registrationFlags() {
+        if (this.brigadierManager.settings().get(BrigadierSetting.REDIRECT_ALIASES)) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(Collections.singletonList(CommandRegistrationFlag.FLATTEN_ALIASES));
+    }
+
     private LiteralCommandNode<CommandSourceStack> createRootNode(final CommandNode<C> rootNode, final String label) {
-        final BrigadierPermissionChecker<C> permissionChecker = (sender, permission) -> {
+        return this.brigadierManager.literalBrigadierNodeFactory().createNode(
+            label,
+            rootNode,
+            this.executor,
+            this.permissionCheckers.computeIfAbsent(rootNode.component().name(), this::createPermissionChecker)
+        );
+    }
+
+    /**
+     * Creates the permission checker for the root command with the given {@code name}. The checkers are reused between
+     * registrations, so that the nodes of the root can be reused by incremental builds.
+     *
+     * @param name the name of the root command
+     * @return the permission checker
+     */
+    private BrigadierPermissionChecker<C> createPermissionChecker(final String name) {
+        return (sender, permission) -> {
             // We need to check that the command still exists...
-            if (this.manager.commandTree().getNamedNode(rootNode.component().name()) == null) {
+            if (this.manager.commandTree().getNamedNode(name) == null) {
                 return false;
             }
 
             return this.manager.testPermission(sender, permission).allowed();
         };
-        return this.brigadierManager.literalBrigadierNodeFactory().createNode(
-            label,
-            rootNode,
-            new CloudBrigadierCommand<>(
-                this.manager,
-                this.brigadierManager,
-                command -> BukkitHelper.stripNamespace(this.metaHolder.owningPluginMeta().getName(), command)
-            ),
-            permissionChecker
-        );
     }
 
     private String findBukkitDescription(final CommandNode<C> node) {
@@ -226,7 +274,7 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             ));
         }
 
-        this.resendCommands();
+        this.commandTreeSync.invalidate();
 
         final @Nullable Set<String> registered = this.aliases.get(command.rootComponent().name());
 
@@ -245,6 +293,7 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
             return;
         }
         this.registeredCommands.removeIf(command -> command.rootComponent().name().equals(label));
+        this.permissionCheckers.remove(label);
 
         try {
             if (commandnodeRemoveMethod == null) {
@@ -279,13 +328,12 @@ final class ModernPaperBrigadier<C, B> implements CommandRegistrationHandler<C>,
 
         this.unregisterRoot(commands, rootCommand.name());
 
-        this.resendCommands();
+        this.commandTreeSync.invalidate();
     }
 
-    private void resendCommands() {
-        for (final Player player : this.metaHolder.owningPlugin().getServer().getOnlinePlayers()) {
-            player.updateCommands();
-        }
+    @Override
+    public @NonNull CommandTreeSync commandTreeSync() {
+        return this.commandTreeSync;
     }
 
     private static @MonotonicNonNull Field commandsInvalidField = null;
@@ -26,6 +26,7 @@ package org.incendo.cloud.paper;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.plugin.bootstrap.BootstrapContext;
 import io.papermc.paper.plugin.configuration.PluginMeta;
+import java.util.Objects;
 import java.util.logging.Level;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -44,6 +45,7 @@ import org.incendo.cloud.bukkit.BukkitCommandContextKeys;
 import org.incendo.cloud.bukkit.BukkitDefaultCaptionsProvider;
 import org.incendo.cloud.bukkit.BukkitParsers;
 import org.incendo.cloud.bukkit.CloudBukkitCapabilities;
+import org.incendo.cloud.bukkit.CommandResendPolicy;
 import org.incendo.cloud.bukkit.PluginHolder;
 import org.incendo.cloud.bukkit.internal.BukkitHelper;
 import org.incendo.cloud.execution.ExecutionCoordinator;
@@ -64,6 +66,7 @@ public class PaperCommandManager<C> extends CommandManager<C> implements SenderM
     PluginMetaHolder, PluginHolder, BrigadierManagerHolder<C, CommandSourceStack> {
     private final PluginMeta pluginMeta;
     private final SenderMapper<CommandSourceStack, C> senderMapper;
+    private volatile CommandResendPolicy commandResendPolicy = CommandResendPolicy.immediate();
 
     /**
      * Creates a new {@link Builder} for a manager with sender type {@link C}.
@@ -98,7 +101,8 @@ public class PaperCommandManager<C> extends CommandManager<C> implements SenderM
             CommandSourceStack.class,
             this,
             senderMapper,
-            this::lockRegistration
+            this::lockRegistration,
+            this::commandResendPolicy
         ));
 
         CloudBukkitCapabilities.CAPABLE.forEach(this::registerCapability);
@@ -136,6 +140,29 @@ public class PaperCommandManager<C> extends CommandManager<C> implements SenderM
         return this.senderMapper;
     }
 
+    /**
+     * Returns the policy that controls how the command tree is sent to online players after it changed.
+     *
+     * @return the policy
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final @NonNull CommandResendPolicy commandResendPolicy() {
+        return this.commandResendPolicy;
+    }
+
+    /**
+     * Sets the policy that controls how the command tree is sent to online players after it changed. Defaults to
+     * {@link CommandResendPolicy#immediate()}.
+     *
+     * @param policy the policy
+     * @since 2.0.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "2.0.0")
+    public final void commandResendPolicy(final @NonNull CommandResendPolicy policy) {
+        this.commandResendPolicy = Objects.requireNonNull(policy, "policy");
+    }
+
     private void registerDefaultExceptionHandlers() {
         this.registerDefaultExceptionHandlers(
             triplet -> this.senderMapper().reverse(triplet.first().sender()).getSender()
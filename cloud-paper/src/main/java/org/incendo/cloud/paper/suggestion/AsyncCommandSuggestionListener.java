@@ -78,7 +78,7 @@ class AsyncCommandSuggestionListener<C> implements SuggestionListener<C> {
     }
 
     protected Suggestions<C, ?> querySuggestions(final @NonNull C commandSender, final @NonNull String input) {
-        return this.paperCommandManager.suggestionFactory().suggestImmediately(commandSender, input);
+        return this.paperCommandManager.tabCompletionSuggestionFactory().suggestImmediately(commandSender, input);
     }
 
     protected void setSuggestions(
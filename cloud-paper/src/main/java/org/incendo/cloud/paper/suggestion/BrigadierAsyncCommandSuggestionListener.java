@@ -33,6 +33,7 @@ import org.incendo.cloud.brigadier.suggestion.TooltipSuggestion;
 import org.incendo.cloud.paper.LegacyPaperCommandManager;
 import org.incendo.cloud.paper.suggestion.tooltips.CompletionMapper;
 import org.incendo.cloud.paper.suggestion.tooltips.CompletionMapperFactory;
+import org.incendo.cloud.suggestion.Suggestion;
 import org.incendo.cloud.suggestion.SuggestionFactory;
 import org.incendo.cloud.suggestion.Suggestions;
 import org.incendo.cloud.util.StringUtils;
@@ -40,11 +41,13 @@ import org.incendo.cloud.util.StringUtils;
 class BrigadierAsyncCommandSuggestionListener<C> extends AsyncCommandSuggestionListener<C> {
 
     private final CompletionMapperFactory completionMapperFactory = CompletionMapperFactory.detectingRelocation();
-    private final SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory;
+    private final LegacyPaperCommandManager<C> paperCommandManager;
+    private @Nullable SuggestionFactory<C, ? extends Suggestion> sourceSuggestionFactory;
+    private @Nullable SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory;
 
     BrigadierAsyncCommandSuggestionListener(final @NonNull LegacyPaperCommandManager<C> paperCommandManager) {
         super(paperCommandManager);
-        this.suggestionFactory = paperCommandManager.suggestionFactory().mapped(TooltipSuggestion::tooltipSuggestion);
+        this.paperCommandManager = paperCommandManager;
     }
 
     @EventHandler
@@ -58,7 +61,22 @@ class BrigadierAsyncCommandSuggestionListener<C> extends AsyncCommandSuggestionL
             final @NonNull C commandSender,
             final @NonNull String input
     ) {
-        return this.suggestionFactory.suggestImmediately(commandSender, input);
+        return this.suggestionFactory().suggestImmediately(commandSender, input);
+    }
+
+    /**
+     * Returns the tab completion suggestion factory of the manager mapped to tooltip suggestions. The mapped factory is only
+     * created again when the manager switches to another factory, rather than for every request.
+     *
+     * @return the mapped suggestion factory
+     */
+    private synchronized @NonNull SuggestionFactory<C, ? extends TooltipSuggestion> suggestionFactory() {
+        final SuggestionFactory<C, ? extends Suggestion> source = this.paperCommandManager.tabCompletionSuggestionFactory();
+        if (source != this.sourceSuggestionFactory || this.suggestionFactory == null) {
+            this.sourceSuggestionFactory = source;
+            this.suggestionFactory = source.mapped(TooltipSuggestion::tooltipSuggestion);
+        }
+        return this.suggestionFactory;
     }
 
     @Override
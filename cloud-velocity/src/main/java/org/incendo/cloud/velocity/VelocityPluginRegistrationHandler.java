@@ -38,6 +38,7 @@ final class VelocityPluginRegistrationHandler<C> implements CommandRegistrationH
 
     private CloudBrigadierManager<C, CommandSource> brigadierManager;
     private VelocityCommandManager<C> manager;
+    private CloudBrigadierCommand<C, CommandSource> executor;
 
     void initialize(final @NonNull VelocityCommandManager<C> velocityCommandManager) {
         this.manager = velocityCommandManager;
@@ -45,6 +46,7 @@ final class VelocityPluginRegistrationHandler<C> implements CommandRegistrationH
                 velocityCommandManager,
                 velocityCommandManager.senderMapper()
         );
+        this.executor = new CloudBrigadierCommand<>(this.manager, this.brigadierManager);
     }
 
     @Override
@@ -56,7 +58,7 @@ final class VelocityPluginRegistrationHandler<C> implements CommandRegistrationH
                 this.brigadierManager.literalBrigadierNodeFactory().createNode(
                         command.rootComponent().name(),
                         command,
-                        new CloudBrigadierCommand<>(this.manager, this.brigadierManager)
+                        this.executor
                 )
         );
         final CommandMeta commandMeta = this.manager.proxyServer().getCommandManager()
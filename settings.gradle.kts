@@ -58,10 +58,12 @@ rootProject.name = "cloud-minecraft"
 
 include("cloud-minecraft-bom")
 
+include("cloud-benchmarks")
 include("cloud-brigadier")
 include("cloud-bukkit")
 include("cloud-bungee")
 include("cloud-cloudburst")
+include("cloud-minecraft-common")
 include("cloud-minecraft-extras")
 include("cloud-minecraft-signed-arguments")
 include("cloud-paper")